@@ -0,0 +1,85 @@
+package island;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Каждая фаза хода отдельно; остров пересоздаётся на каждой итерации,
+// иначе гусеницы заполняют карту и результаты перестают быть сравнимыми.
+// Ход животных меняет население, поэтому перед каждым вызовом остров
+// возвращается к старту с одним и тем же seed — все режимы меряются на
+// одинаковом начальном состоянии. Рост растений и статистика от режима не зависят
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IslandTickBenchmark {
+    @Param({"100", "300", "1000"})
+    int size;
+
+    @Param({"0.3", "1.0"})
+    double density;
+
+    private static final long SEED = 42;
+
+    private Island island;
+    private IslandSimulation simulation;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        island = new Island(size, size, density, SEED);
+        simulation = new IslandSimulation(island);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        simulation.stop();
+    }
+
+    // Симуляция и её пулы создаются один раз на режим; между вызовами сбрасывается только остров
+    @State(Scope.Benchmark)
+    public static class FreshIsland {
+        @Param({"PER_ANIMAL", "TILED", "TWO_PHASE", "VIRTUAL", "QUADTREE"})
+        TickMode mode;
+
+        Island island;
+        IslandSimulation simulation;
+        double density;
+
+        @Setup(Level.Trial)
+        public void setUp(IslandTickBenchmark benchmark) {
+            density = benchmark.density;
+            island = new Island(benchmark.size, benchmark.size, density, SEED);
+            simulation = new IslandSimulation(island, mode);
+        }
+
+        // Тот же порядок, что в IslandSimulation.tick(): растения растут до хода животных
+        @Setup(Level.Invocation)
+        public void reset() {
+            island.reset(density);
+            simulation.growPlants();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            simulation.stop();
+        }
+    }
+
+    @Benchmark
+    public void plantGrowth() {
+        simulation.growPlants();
+    }
+
+    @Benchmark
+    public void animalLifeCycle(FreshIsland fresh) {
+        fresh.simulation.animalLifeCycle();
+    }
+
+    @Benchmark
+    public IslandSimulation.Statistics statistics() {
+        return simulation.collectStatistics();
+    }
+}
@@ -0,0 +1,47 @@
+package island;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Все потоки добавляют и убирают животных в одной и той же клетке
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocationContentionBenchmark {
+    @Param({"0", "100", "1000"})
+    int residents;
+
+    private Location location;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Island island = new Island(1, 1, 0);
+        location = island.getLocation(0, 0);
+        for (int i = 0; i < residents; i++) {
+            location.addAnimal(new Caterpillar());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Mover {
+        final Animal animal = new Mouse();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void addRemoveUncontended(Mover mover) {
+        location.addAnimal(mover.animal);
+        location.removeAnimal(mover.animal);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void addRemoveContended(Mover mover) {
+        location.addAnimal(mover.animal);
+        location.removeAnimal(mover.animal);
+    }
+}
@@ -1,5 +0,0 @@
-public class Boar extends Herbivore {
-    public Boar() {
-        super(400, 50, 2, 50, "🐗");
-    }
-}
@@ -1,5 +0,0 @@
-public class Buffalo extends Herbivore {
-    public Buffalo() {
-        super(700, 10, 3, 100, "🐃");
-    }
-}
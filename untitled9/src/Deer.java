@@ -1,5 +0,0 @@
-public class Deer extends Herbivore {
-    public Deer() {
-        super(300, 20, 4, 50, "🦌");
-    }
-}
@@ -1,5 +0,0 @@
-public class Goat extends Herbivore {
-    public Goat() {
-        super(60, 140, 3, 10, "🐐");
-    }
-}
@@ -1,5 +0,0 @@
-public class Horse extends Herbivore {
-    public Horse() {
-        super(400, 20, 4, 60, "🐎");
-    }
-}
@@ -1,5 +0,0 @@
-public class Mouse extends Herbivore {
-    public Mouse() {
-        super(0.05, 500, 1, 0.01, "🐁");
-    }
-}
@@ -1,5 +0,0 @@
-public class Rabbit extends Herbivore {
-    public Rabbit() {
-        super(2, 150, 2, 0.45, "🐇");
-    }
-}
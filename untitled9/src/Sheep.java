@@ -1,5 +0,0 @@
-public class Sheep extends Herbivore {
-    public Sheep() {
-        super(70, 140, 3, 15, "🐑");
-    }
-}
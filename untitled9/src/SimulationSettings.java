@@ -1,7 +0,0 @@
-public class SimulationSettings {
-    // Количество начальных растений на одной локации
-    public static final int INITIAL_PLANTS_PER_LOCATION = 5;
-
-    // Вероятность появления животных изначально
-    public static final double INITIAL_ANIMAL_SPAWN_CHANCE = 0.3;
-}
@@ -0,0 +1,261 @@
+package island;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.*;
+import java.util.random.RandomGenerator;
+
+public abstract class Animal extends LivingEntity {
+    private static final VarHandle SLOT;
+    private static final int UNPLACED = -1;
+    private static final int DEAD = -2;
+
+    static {
+        try {
+            SLOT = MethodHandles.lookup().findVarHandle(Animal.class, "slot", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Константы вида общие для всех особей; в объекте только ссылка на вид
+    protected final Species species = Species.of(getClass());
+
+    // Состояние живого животного хранится в Population острова
+    private Population population;
+    private volatile int slot = UNPLACED;
+
+    // Своей блокировки у животного нет: одну особь за ход обрабатывает одна задача,
+    // гибель от хищника разрешается CAS слота, а клетки защищают свои блокировки
+    @Override
+    public void liveCycle(RandomGenerator random) {
+        if (!isAlive()) return; // Уже съеден в этом ходу
+        move(random);
+        eat(random);
+        reproduce(random);
+        if (starve()) {
+            die();
+        }
+    }
+
+    public abstract void eat(RandomGenerator random);
+
+    public void reproduce(RandomGenerator random) {
+        int offspringCount = offspringCount(location.countOf(species.id()), random);
+        for (int i = 0; i < offspringCount; i++) {
+            Animal offspring = newOffspring();
+            if (!location.addAnimal(offspring)) {
+                location.getIsland().getAnimalPool().retire(offspring); // Клетка заполнена
+                break;
+            }
+        }
+    }
+
+    // Сколько детёнышей родится при данном числе сородичей в клетке
+    protected abstract int offspringCount(long mates, RandomGenerator random);
+
+    protected Animal newOffspring() {
+        return location.getIsland().getAnimalPool().obtain(species);
+    }
+
+    // Кого из клетки удалось поймать в этом ходу (null — никого)
+    protected Animal choosePrey(Location location, RandomGenerator random) {
+        return null;
+    }
+
+    // Охота по таблице видов: вид добычи среди присутствующих в клетке, бросок
+    // на шанс поймать, затем случайная особь этого вида
+    protected final Animal hunt(Location location, RandomGenerator random) {
+        SpeciesTable table = SpeciesTable.get();
+        int[] prey = table.preyOf(species.id());
+        int present = 0;
+        for (int preyId : prey) {
+            if (location.countOf(preyId) > 0) {
+                present++;
+            }
+        }
+        if (present == 0) return null;
+
+        int pick = random.nextInt(present);
+        for (int preyId : prey) {
+            if (location.countOf(preyId) > 0 && pick-- == 0) {
+                if (random.nextInt(100) >= table.catchChance(species.id(), preyId)) return null;
+                return location.randomAnimalOf(preyId, random);
+            }
+        }
+        return null;
+    }
+
+    protected void eatPrey(Animal prey) {
+        setSatiety(Math.min(getSatiety() + prey.getWeight(), foodNeeded()));
+    }
+
+    protected boolean wantsToGraze(RandomGenerator random) {
+        return false;
+    }
+
+    // Сколько биомассы растений животное съедает за раз
+    protected double plantBite() {
+        return Plant.WEIGHT;
+    }
+
+    protected void eatPlant(double biomass) {
+        setSatiety(Math.min(getSatiety() + biomass, foodNeeded()));
+    }
+
+    public void move(RandomGenerator random) {
+        Location newLocation = chooseMove(random);
+        if (newLocation != null) {
+            location.getIsland().getMoveHandler().move(this, location, newLocation);
+        }
+    }
+
+    // Куда животное хочет переместиться в этом ходу (null — остаётся)
+    protected Location chooseMove(RandomGenerator random) {
+        int maxSpeed = species.maxSpeed();
+        if (maxSpeed == 0) return null; // Для неподвижных животных
+
+        Island island = location.getIsland();
+        int steps = random.nextInt(maxSpeed) + 1;
+        for (int i = 0; i < steps; i++) {
+            int target = island.randomNeighbour(location.getIndex(), random);
+            if (target >= 0 && canMoveTo(target)) {
+                return island.getLocation(target); // Перемещаемся только один раз за ход
+            }
+        }
+        return null;
+    }
+
+    // Тратим энергию; true — животное умерло от голода
+    boolean starve() {
+        setSatiety(getSatiety() - foodNeeded() * 0.1);
+        return getSatiety() <= 0;
+    }
+
+    protected boolean canMoveTo(int cell) {
+        return true; // По умолчанию можно перемещаться везде
+    }
+
+    @Override
+    public void setLocation(Location location) {
+        super.setLocation(location);
+        int current = slot;
+        if (current == UNPLACED) {
+            population = location.getIsland().getPopulation();
+            slot = population.allocate(foodNeeded() * 0.5); // Начальная сытость
+            location.getIsland().getCensus().animalBorn(species.id());
+            location.getIsland().getEvents().birth(species.id(), location.getIndex());
+        }
+    }
+
+    public double getSatiety() {
+        int current = slot;
+        return current >= 0 ? population.satiety(current) : 0;
+    }
+
+    protected void setSatiety(double satiety) {
+        int current = slot;
+        if (current >= 0) {
+            population.setSatiety(current, satiety);
+        }
+    }
+
+    public boolean isAlive() {
+        int current = slot;
+        return current >= 0 && population.isAlive(current);
+    }
+
+    public boolean isDead() {
+        return slot == DEAD;
+    }
+
+    public Species getSpecies() {
+        return species;
+    }
+
+    public int getSpeciesId() {
+        return species.id();
+    }
+
+    @Override
+    public double getWeight() {
+        return species.weight();
+    }
+
+    @Override
+    public int getMaxPerCell() {
+        return species.maxPerCell();
+    }
+
+    protected double foodNeeded() {
+        return species.foodNeeded();
+    }
+
+    public String getUnicodeSymbol() {
+        return species.symbol();
+    }
+
+    @Override
+    public void die() {
+        Location at = location;
+        if (markDead(at)) {
+            leave(at);
+        }
+    }
+
+    // Гибель от хищника; true — если именно этот хищник убил добычу
+    boolean killedBy(Animal predator) {
+        Location at = location;
+        if (!markDead(at)) return false;
+        at.getIsland().getEvents().kill(predator.species.id(), species.id(), at.getIndex());
+        leave(at);
+        return true;
+    }
+
+    // Освобождает слот, не трогая клетку; true — если именно этот вызов убил животное
+    boolean markDead() {
+        return markDead(location);
+    }
+
+    // at — клетка, прочитанная до гибели; у не размещённого животного её нет
+    private boolean markDead(Location at) {
+        if (at == null || !release(at)) return false;
+        at.getIsland().getEvents().death(species.id(), at.getIndex());
+        return true;
+    }
+
+    // Животное уходит с острова в соседний шард: слот освобождается, но это не смерть
+    boolean emigrate() {
+        Location at = location;
+        if (at == null || !release(at)) return false;
+        leave(at);
+        return true;
+    }
+
+    // Убирает освобождённое животное из клетки. Если до гибели оно успело перейти
+    // в другую клетку (Location.transfer), после блокировки at видно новое место
+    private void leave(Location at) {
+        at.removeAnimal(this);
+        Location now = location;
+        if (now != at && now != null) {
+            now.removeAnimal(this);
+        }
+    }
+
+    private boolean release(Location at) {
+        int current = slot;
+        // Только один поток может освободить слот, даже если добычу ловят двое
+        if (current < 0 || !SLOT.compareAndSet(this, current, DEAD)) return false;
+        population.release(current);
+        at.getIsland().getCensus().animalDied(species.id());
+        at.getIsland().getAnimalPool().retire(this);
+        return true;
+    }
+
+    // Возвращает мёртвое животное в исходное состояние для повторного использования
+    void recycle() {
+        slot = UNPLACED;
+        population = null;
+        location = null;
+    }
+}
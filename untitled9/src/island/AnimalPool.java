@@ -0,0 +1,93 @@
+package island;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Per-species recycling of dead animals. Animals that die during a tick are only
+// parked here; they become reusable after reclaim(), which the simulation calls
+// between ticks, so an engine never sees the same object twice in one tick.
+public class AnimalPool {
+    private static final int MAX_POOLED_PER_SPECIES = 1 << 14;
+
+    private final SpeciesPool[] pools = new SpeciesPool[Species.COUNT];
+
+    public AnimalPool() {
+        for (int id = 0; id < pools.length; id++) {
+            pools[id] = new SpeciesPool(Species.byId(id));
+        }
+    }
+
+    public Animal obtain(Species species) {
+        return pools[species.id()].obtain();
+    }
+
+    public void retire(Animal animal) {
+        pools[animal.getSpeciesId()].retire(animal);
+    }
+
+    public void reclaim() {
+        for (SpeciesPool pool : pools) {
+            pool.reclaim();
+        }
+    }
+
+    private static final class SpeciesPool {
+        private final Species species;
+        private Animal[] free = new Animal[16];
+        private int freeCount;
+        private Animal[] retired = new Animal[16];
+        private int retiredCount;
+        private final Lock lock = new ReentrantLock(); // Не закрепляет виртуальные потоки
+
+        SpeciesPool(Species species) {
+            this.species = species;
+        }
+
+        Animal obtain() {
+            lock.lock();
+            try {
+                if (freeCount > 0) {
+                    Animal animal = free[--freeCount];
+                    free[freeCount] = null;
+                    return animal;
+                }
+            } finally {
+                lock.unlock();
+            }
+            return species.create();
+        }
+
+        void retire(Animal animal) {
+            lock.lock();
+            try {
+                if (retiredCount == retired.length) {
+                    if (retiredCount == MAX_POOLED_PER_SPECIES) return; // Остальных соберёт GC
+                    retired = Arrays.copyOf(retired, retiredCount * 2);
+                }
+                retired[retiredCount++] = animal;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void reclaim() {
+            lock.lock();
+            try {
+                for (int i = 0; i < retiredCount; i++) {
+                    if (freeCount == MAX_POOLED_PER_SPECIES) break;
+                    if (freeCount == free.length) {
+                        free = Arrays.copyOf(free, freeCount * 2);
+                    }
+                    Animal animal = retired[i];
+                    animal.recycle();
+                    free[freeCount++] = animal;
+                }
+                Arrays.fill(retired, 0, retiredCount, null);
+                retiredCount = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
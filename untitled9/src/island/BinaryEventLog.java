@@ -0,0 +1,212 @@
+package island;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Append-only binary event log. Simulation threads write fixed-size records into
+// their own direct buffers with no synchronisation; full buffers, and all buffers
+// at every tick boundary, go to a background thread that writes them in batches
+// with a gathering FileChannel write. Virtual threads are too many and too short-lived
+// for a buffer each, so they share a few striped buffers under a lock instead.
+//
+// Layout (little-endian): magic, version, record size, then records of
+//   tick long, type byte, species byte, other byte, padding byte, cell int, target int
+// Records of one tick may be interleaved across threads. See EventLogReader.
+public final class BinaryEventLog implements EventRecorder {
+    static final int MAGIC = 0x56455349; // "ISEV"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 3 * Integer.BYTES;
+    static final int RECORD_BYTES = Long.BYTES + 4 + 2 * Integer.BYTES;
+
+    private static final int BUFFER_BYTES = RECORD_BYTES * 4096;
+    private static final int MAX_BATCH = 64;
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+    private final FileChannel channel;
+    private final BlockingQueue<ByteBuffer> pending = new ArrayBlockingQueue<>(256);
+    private final Queue<ByteBuffer> free = new ConcurrentLinkedQueue<>();
+    // Буферы, выданные потокам в текущем ходу
+    private final Queue<Buffer> active = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Buffer> local = new ThreadLocal<>();
+    private final Buffer[] stripes;
+    private final Thread writer;
+    private volatile long tick;
+    private volatile IOException failure;
+
+    private static final class Buffer {
+        final long tick;
+        final ReentrantLock lock; // Только у общих буферов виртуальных потоков
+        ByteBuffer data;
+
+        Buffer(long tick, ReentrantLock lock, ByteBuffer data) {
+            this.tick = tick;
+            this.lock = lock;
+            this.data = data;
+        }
+    }
+
+    public BinaryEventLog(Path path, long startTick) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(RECORD_BYTES).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+
+        tick = startTick;
+        stripes = new Buffer[Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Buffer(-1, new ReentrantLock(), take());
+        }
+        writer = Thread.ofPlatform().name("event-log-writer").daemon().start(this::writeLoop);
+    }
+
+    @Override
+    public void record(byte type, int species, int other, int cell, int target) {
+        Thread thread = Thread.currentThread();
+        if (thread.isVirtual()) {
+            Buffer stripe = stripes[(int) thread.threadId() & (stripes.length - 1)];
+            stripe.lock.lock();
+            try {
+                stripe.data = put(stripe.data, type, species, other, cell, target);
+            } finally {
+                stripe.lock.unlock();
+            }
+            return;
+        }
+
+        Buffer buffer = local.get();
+        if (buffer == null || buffer.tick != tick || buffer.data == null) {
+            // Прошлый буфер потока уже отправлен на запись в beginTick
+            buffer = new Buffer(tick, null, take());
+            local.set(buffer);
+            active.add(buffer);
+        }
+        buffer.data = put(buffer.data, type, species, other, cell, target);
+    }
+
+    private ByteBuffer put(ByteBuffer data, byte type, int species, int other, int cell, int target) {
+        if (data.remaining() < RECORD_BYTES) {
+            submit(data);
+            data = take();
+        }
+        data.putLong(tick)
+                .put(type)
+                .put((byte) species)
+                .put((byte) other)
+                .put((byte) 0)
+                .putInt(cell)
+                .putInt(target);
+        return data;
+    }
+
+    @Override
+    public void beginTick(long nextTick) {
+        flush();
+        tick = nextTick;
+    }
+
+    // Отправляет на запись всё, что накопилось; только между ходами
+    private void flush() {
+        Buffer buffer;
+        while ((buffer = active.poll()) != null) {
+            submit(buffer.data);
+            buffer.data = null;
+        }
+        for (Buffer stripe : stripes) {
+            if (stripe.data.position() > 0) {
+                submit(stripe.data);
+                stripe.data = take();
+            }
+        }
+    }
+
+    private ByteBuffer take() {
+        ByteBuffer data = free.poll();
+        return data != null ? data : ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private void submit(ByteBuffer data) {
+        if (data.position() == 0) {
+            free.add(data);
+            return;
+        }
+        data.flip();
+        try {
+            pending.put(data); // Очередь ограничена: отстающая запись притормаживает симуляцию
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeLoop() {
+        List<ByteBuffer> batch = new ArrayList<>(MAX_BATCH);
+        try {
+            while (true) {
+                batch.add(pending.take());
+                pending.drainTo(batch, MAX_BATCH - 1);
+                // END сравниваем по ссылке: equals у ByteBuffer сравнивает содержимое
+                boolean end = batch.get(batch.size() - 1) == END;
+                if (end) {
+                    batch.remove(batch.size() - 1);
+                }
+                write(batch);
+                batch.clear();
+                if (end) return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(List<ByteBuffer> batch) {
+        if (batch.isEmpty() || failure != null) return;
+        ByteBuffer[] buffers = batch.toArray(ByteBuffer[]::new);
+        try {
+            long remaining = 0;
+            for (ByteBuffer data : buffers) {
+                remaining += data.remaining();
+            }
+            while (remaining > 0) {
+                remaining -= channel.write(buffers);
+            }
+        } catch (IOException e) {
+            failure = e; // Сообщим при закрытии, симуляцию не останавливаем
+        }
+        for (ByteBuffer data : buffers) {
+            data.clear();
+            free.add(data);
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+        try {
+            pending.put(END);
+            writer.join();
+            channel.force(false);
+            channel.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package island;
+
+public class Boa extends Predator {
+}
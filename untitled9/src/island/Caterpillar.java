@@ -0,0 +1,29 @@
+package island;
+
+import java.util.random.RandomGenerator;
+
+public class Caterpillar extends Herbivore {
+    @Override
+    public void move(RandomGenerator random) {} // Не двигается
+
+    @Override
+    protected boolean wantsToGraze(RandomGenerator random) {
+        return random.nextInt(10) == 0;
+    }
+
+    @Override
+    protected double plantBite() {
+        return Plant.WEIGHT * 0.1;
+    }
+
+    @Override
+    protected void eatPlant(double biomass) {
+        setSatiety(getSatiety() + biomass);
+    }
+
+    @Override
+    protected int offspringCount(long mates, RandomGenerator random) {
+        if (getSatiety() < foodNeeded() * 0.3) return 0;
+        return random.nextInt(10) + 5;
+    }
+}
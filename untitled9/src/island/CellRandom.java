@@ -0,0 +1,49 @@
+package island;
+
+import java.util.random.RandomGenerator;
+
+// Counter-based generator: the stream for a cell in a given tick depends only on
+// (seed, phase, tick, cell), never on which thread runs it or in what order, so a
+// run can be replayed with any number of threads. A single instance is meant to be
+// reused by one thread through reset().
+public final class CellRandom implements RandomGenerator {
+    public static final int SPAWN = 0;
+    public static final int GROWTH = 1;
+    public static final int ANIMALS = 2;
+
+    static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    public CellRandom reset(long seed, int phase, long tick, long cell) {
+        state = mix(streamBase(seed, phase, tick) + cell);
+        return this;
+    }
+
+    // Общая часть ключа для всех клеток одной фазы хода
+    public static long streamBase(long seed, int phase, long tick) {
+        return mix(mix(seed + phase * GOLDEN_GAMMA) + tick);
+    }
+
+    // Первое nextLong() потока клетки без создания генератора — для пакетных ядер
+    public static long firstLong(long streamBase, long cell) {
+        return mix(mix(streamBase + cell) + GOLDEN_GAMMA);
+    }
+
+    // Отдельный экземпляр для задач, которые не могут переиспользовать генератор потока
+    public static CellRandom of(long seed, int phase, long tick, long cell) {
+        return new CellRandom().reset(seed, phase, tick, cell);
+    }
+
+    @Override
+    public long nextLong() {
+        state += GOLDEN_GAMMA; // SplitMix64
+        return mix(state);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,33 @@
+package island;
+
+import java.nio.file.Path;
+
+// Где держать состояние клеток: в куче или вне её, в том числе в отображённом файле
+@FunctionalInterface
+public interface CellStorage {
+    CellStorage HEAP = HeapCellStore::new;
+
+    // Вне кучи через FFM API
+    static CellStorage offHeap() {
+        return OffHeapCellStore::allocate;
+    }
+
+    // Как offHeap(), но страницы берутся из файла и вытесняются ОС при нехватке памяти
+    static CellStorage mapped(Path path) {
+        return cells -> OffHeapCellStore.map(cells, path);
+    }
+
+    // heap, offheap или mapped:<путь>
+    static CellStorage parse(String value) {
+        if (value.startsWith("mapped:")) {
+            return mapped(Path.of(value.substring("mapped:".length())));
+        }
+        return switch (value) {
+            case "heap" -> HEAP;
+            case "offheap" -> offHeap();
+            default -> throw new IllegalArgumentException("Unknown cell storage: " + value);
+        };
+    }
+
+    CellStore create(int cells);
+}
@@ -0,0 +1,23 @@
+package island;
+
+// Плотное состояние клеток острова: биомасса растений и таблица соседей.
+// Память выделяется один раз на весь остров, поэтому хранилище можно вынести
+// за пределы кучи (см. CellStorage).
+public interface CellStore extends AutoCloseable {
+    int MAX_NEIGHBOURS = 4;
+
+    double biomass(int cell);
+    void setBiomass(int cell, double biomass);
+
+    int neighbourCount(int cell);
+    int neighbour(int cell, int i);
+    void setNeighbours(int cell, int[] neighbours, int count);
+
+    // Рост растений одним проходом; возвращает суммарный прирост биомассы
+    double growPlants(long streamBase, int growthRatePercent);
+
+    long footprintBytes();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,63 @@
+package island;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Опции запуска вида --name=value, общие для HeadlessRunner и ShardCoordinator
+final class CommandLineOptions {
+    private final Map<String, String> values = new HashMap<>();
+
+    private CommandLineOptions() {}
+
+    static CommandLineOptions parse(String[] args) {
+        CommandLineOptions options = new CommandLineOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    boolean has(String name) {
+        return values.containsKey(name);
+    }
+
+    // null, если опция не задана
+    String get(String name) {
+        return values.get(name);
+    }
+
+    String get(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    int getInt(String name, int defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : parse(name, value, Integer::parseInt);
+    }
+
+    long getLong(String name, long defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : parse(name, value, Long::parseLong);
+    }
+
+    boolean getBoolean(String name, boolean defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    private interface Parser<T> {
+        T parse(String value);
+    }
+
+    private static <T> T parse(String name, String value, Parser<T> parser) {
+        try {
+            return parser.parse(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Bad value for --" + name + ": " + value, e);
+        }
+    }
+}
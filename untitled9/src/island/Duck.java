@@ -0,0 +1,26 @@
+package island;
+
+import java.util.random.RandomGenerator;
+
+public class Duck extends Herbivore {
+    @Override
+    public void eat(RandomGenerator random) {
+        super.eat(random); // Сначала пробуем растения
+
+        Animal caterpillar = choosePrey(location, random);
+        if (caterpillar != null && caterpillar.killedBy(this)) {
+            eatPrey(caterpillar);
+        }
+    }
+
+    @Override
+    protected Animal choosePrey(Location location, RandomGenerator random) {
+        if (getSatiety() >= foodNeeded() * 0.7) return null;
+        return hunt(location, random);
+    }
+
+    @Override
+    protected void eatPrey(Animal prey) {
+        setSatiety(getSatiety() + prey.getWeight());
+    }
+}
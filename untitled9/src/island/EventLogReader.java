@@ -0,0 +1,73 @@
+package island;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+// Потоковое чтение журнала BinaryEventLog окнами фиксированного размера:
+// java -cp build/classes/java/main island.EventLogReader events.bin
+public final class EventLogReader {
+    private static final int WINDOW_RECORDS = 1 << 16;
+
+    public record Event(long tick, byte type, int species, int other, int cell, int target) {}
+
+    private EventLogReader() {}
+
+    // Возвращает число прочитанных событий
+    public static long forEach(Path path, Consumer<Event> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(BinaryEventLog.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, header);
+            header.flip();
+            if (header.getInt() != BinaryEventLog.MAGIC || header.getInt() != BinaryEventLog.VERSION
+                    || header.getInt() != BinaryEventLog.RECORD_BYTES) {
+                throw new IOException("Not an island event log: " + path);
+            }
+
+            ByteBuffer window = ByteBuffer.allocateDirect(WINDOW_RECORDS * BinaryEventLog.RECORD_BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            long events = 0;
+            while (channel.read(window) > 0 || window.position() > 0) {
+                window.flip();
+                while (window.remaining() >= BinaryEventLog.RECORD_BYTES) {
+                    long tick = window.getLong();
+                    byte type = window.get();
+                    int species = window.get();
+                    int other = window.get();
+                    window.get(); // Выравнивание
+                    consumer.accept(new Event(tick, type, species, other, window.getInt(), window.getInt()));
+                    events++;
+                }
+                if (window.hasRemaining() && channel.position() == channel.size()) {
+                    throw new IOException("Truncated event record at the end of " + path);
+                }
+                window.compact();
+            }
+            return events;
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of event log");
+            }
+        }
+    }
+
+    // Сводка по ходам: рождения, смерти, охота и перемещения
+    public static void main(String[] args) throws IOException {
+        TreeMap<Long, long[]> perTick = new TreeMap<>();
+        long events = forEach(Path.of(args[0]),
+                event -> perTick.computeIfAbsent(event.tick(), t -> new long[4])[event.type()]++);
+        System.out.println("tick\tbirths\tdeaths\tkills\tmoves");
+        perTick.forEach((tick, counts) ->
+                System.out.printf("%d\t%d\t%d\t%d\t%d%n", tick, counts[0], counts[1], counts[2], counts[3]));
+        System.out.println(events + " events");
+    }
+}
@@ -0,0 +1,29 @@
+package island;
+
+// Приёмник событий хода для журнала; по умолчанию события никуда не пишутся
+public interface EventRecorder extends AutoCloseable {
+    byte BIRTH = 0;
+    byte DEATH = 1;
+    byte KILL = 2;
+    byte MOVE = 3;
+
+    EventRecorder NONE = new EventRecorder() {
+        @Override public void record(byte type, int species, int other, int cell, int target) {}
+        @Override public void beginTick(long tick) {}
+        @Override public void close() {}
+    };
+
+    // species — кто, other — вид добычи для KILL, cell — где, target — куда для MOVE
+    void record(byte type, int species, int other, int cell, int target);
+
+    // Вызывается между ходами, когда никто не пишет события
+    void beginTick(long tick);
+
+    @Override
+    void close();
+
+    default void birth(int species, int cell) { record(BIRTH, species, -1, cell, -1); }
+    default void death(int species, int cell) { record(DEATH, species, -1, cell, -1); }
+    default void kill(int predator, int prey, int cell) { record(KILL, predator, prey, cell, -1); }
+    default void move(int species, int from, int to) { record(MOVE, species, -1, from, to); }
+}
@@ -0,0 +1,43 @@
+package island;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+// Heap cost of an animal object, measured rather than estimated: a batch of
+// animals per species is allocated and held while heap usage is compared after
+// a full GC. Population slots (satiety, alive) are reported separately.
+public class FootprintReport {
+    private static final int ANIMALS = 200_000;
+
+    public static void main(String[] args) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.out.printf("%-12s %10s%n", "species", "bytes/animal");
+        double total = 0;
+        for (Species species : Species.values()) {
+            Animal[] animals = new Animal[ANIMALS];
+            long before = usedAfterGc(memory);
+            for (int i = 0; i < animals.length; i++) {
+                animals[i] = species.create();
+            }
+            long after = usedAfterGc(memory);
+            double perAnimal = (double) (after - before) / animals.length;
+            total += perAnimal;
+            System.out.printf("%-12s %10.1f%n", species.getType().getSimpleName(), perAnimal);
+            animals[0].getSpeciesId(); // Массив должен дожить до замера
+        }
+        System.out.printf("%-12s %10.1f%n", "average", total / Species.COUNT);
+
+        Population population = new Population();
+        for (int i = 0; i < ANIMALS; i++) {
+            population.allocate(1);
+        }
+        System.out.printf("Population slot: %.1f bytes%n", (double) population.footprintBytes() / population.capacity());
+    }
+
+    private static long usedAfterGc(MemoryMXBean memory) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -1,3 +1,5 @@
+package island;
+
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.locks.*;
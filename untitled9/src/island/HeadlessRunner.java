@@ -0,0 +1,58 @@
+package island;
+
+import javax.management.JMException;
+import java.io.IOException;
+import java.nio.file.Path;
+
+// Пакетный прогон без вывода по таймеру:
+// --width=1000 --height=1000 --ticks=1000 --seed=42 --threads=8 --mode=TWO_PHASE
+// --load=island.bin продолжает сохранённый прогон, --save=island.bin сохраняет итог
+// --events=events.bin пишет журнал рождений, смертей, охоты и перемещений
+// --storage=offheap|mapped:cells.bin держит состояние клеток вне кучи
+public class HeadlessRunner {
+    public static void main(String[] args) throws IOException, JMException {
+        CommandLineOptions options = CommandLineOptions.parse(args);
+        int width = options.getInt("width", 100);
+        int height = options.getInt("height", 20);
+        int ticks = options.getInt("ticks", 1000);
+        long seed = options.getLong("seed", 42);
+        int threads = options.getInt("threads", Runtime.getRuntime().availableProcessors());
+        TickMode mode = TickMode.valueOf(options.get("mode", SimulationSettings.TICK_MODE.name()));
+        CellStorage storage = CellStorage.parse(options.get("storage", "heap"));
+
+        Island island;
+        if (options.has("load")) {
+            long start = System.nanoTime();
+            island = IslandSnapshot.load(Path.of(options.get("load")), storage);
+            System.out.printf("Loaded %s in %.2f s%n", options.get("load"), (System.nanoTime() - start) / 1e9);
+        } else {
+            island = new Island(width, height, SimulationSettings.INITIAL_ANIMAL_SPAWN_CHANCE, seed, storage);
+        }
+        System.out.printf("Island %dx%d from tick %d, %d ticks, seed %d, %d threads, mode %s%n",
+                island.getWidth(), island.getHeight(), island.getTick(), ticks, island.getSeed(), threads, mode);
+        if (options.has("events")) {
+            island.setEvents(new BinaryEventLog(Path.of(options.get("events")), island.getTick()));
+        }
+        IslandSimulation simulation = new IslandSimulation(island, mode, threads);
+        try {
+            simulation.getMetrics().register("headless");
+            long start = System.nanoTime();
+            simulation.runTicks(ticks);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%d ticks in %.2f s (%.1f ticks/s)%n", ticks, seconds, ticks / seconds);
+            System.out.printf("Allocated cell chunks: %d of %d, cell state %.1f MB (%s)%n",
+                    island.getAllocatedChunkCount(), island.getChunkCount(),
+                    island.getCellStateBytes() / 1e6, options.get("storage", "heap"));
+            simulation.printStatistics();
+            simulation.getMetrics().printReport();
+            if (options.has("save")) {
+                IslandSnapshot.save(island, Path.of(options.get("save")));
+                System.out.println("Saved " + options.get("save"));
+            }
+        } finally {
+            simulation.stop();
+            island.getEvents().close();
+            island.close();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package island;
+
+// Состояние клеток в массивах кучи; рост растений — через PlantGrowthKernel
+final class HeapCellStore implements CellStore {
+    private final double[] biomass;
+    // Соседи клетки c: neighbours[c * MAX_NEIGHBOURS .. + neighbourCounts[c])
+    private final int[] neighbours;
+    private final byte[] neighbourCounts;
+    private final PlantGrowthKernel plantGrowthKernel = PlantGrowthKernel.best();
+
+    HeapCellStore(int cells) {
+        biomass = new double[cells];
+        neighbours = new int[Math.multiplyExact(cells, MAX_NEIGHBOURS)];
+        neighbourCounts = new byte[cells];
+    }
+
+    @Override public double biomass(int cell) { return biomass[cell]; }
+    @Override public void setBiomass(int cell, double value) { biomass[cell] = value; }
+    @Override public int neighbourCount(int cell) { return neighbourCounts[cell]; }
+    @Override public int neighbour(int cell, int i) { return neighbours[cell * MAX_NEIGHBOURS + i]; }
+
+    @Override
+    public void setNeighbours(int cell, int[] cellNeighbours, int count) {
+        System.arraycopy(cellNeighbours, 0, neighbours, cell * MAX_NEIGHBOURS, count);
+        neighbourCounts[cell] = (byte) count;
+    }
+
+    @Override
+    public double growPlants(long streamBase, int growthRatePercent) {
+        return plantGrowthKernel.grow(biomass, streamBase, growthRatePercent);
+    }
+
+    @Override
+    public long footprintBytes() {
+        return (long) biomass.length * (Double.BYTES + MAX_NEIGHBOURS * Integer.BYTES + Byte.BYTES);
+    }
+
+    @Override
+    public void close() {}
+}
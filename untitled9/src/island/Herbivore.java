@@ -0,0 +1,26 @@
+package island;
+
+import java.util.random.RandomGenerator;
+
+public abstract class Herbivore extends Animal {
+    @Override
+    public void eat(RandomGenerator random) {
+        if (wantsToGraze(random)) {
+            double eaten = location.grazePlants(plantBite());
+            if (eaten > 0) {
+                eatPlant(eaten);
+            }
+        }
+    }
+
+    @Override
+    protected boolean wantsToGraze(RandomGenerator random) {
+        return true;
+    }
+
+    @Override
+    protected int offspringCount(long mates, RandomGenerator random) {
+        if (getSatiety() < foodNeeded() * 0.5 || mates < 2) return 0;
+        return random.nextInt(4) + 1;
+    }
+}
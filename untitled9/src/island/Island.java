@@ -0,0 +1,300 @@
+package island;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.random.RandomGenerator;
+
+public class Island implements AutoCloseable {
+    private static final int MAX_NEIGHBOURS = CellStore.MAX_NEIGHBOURS;
+    private static final int[] NEIGHBOUR_DX = {-1, 1, 0, 0}; // Only horizontal/vertical
+    private static final int[] NEIGHBOUR_DY = {0, 0, -1, 1};
+
+    // Клетки выделяются кусками по CHUNK_SIZE подряд идущих индексов, когда там
+    // впервые кто-то появляется, и освобождаются между ходами, когда кусок пустеет
+    private static final int CHUNK_BITS = SimulationSettings.CHUNK_BITS;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+    // Индексы клеток — int, а таблица соседей в куче — MAX_NEIGHBOURS int на клетку.
+    // Это предел адресации (~536 млн клеток), а не памяти: биомасса и соседи плотные,
+    // около 25 байт на клетку, плюс плотные массивы TWO_PHASE и QUADTREE
+    public static final int MAX_CELLS = Integer.MAX_VALUE / MAX_NEIGHBOURS - 1;
+
+    private final AtomicReferenceArray<Location[]> chunks;
+    // Число заселённых клеток в каждом куске
+    private final AtomicIntegerArray occupiedCells;
+    // Битовая маска кусков, которые могли опустеть с прошлой уборки: только что
+    // выделенные и те, где опустела клетка. releaseEmptyChunks смотрит только их
+    private final AtomicLongArray releaseCandidates;
+    private final int width;
+    private final int height;
+    private final long seed;
+    private long tick; // Номер хода — часть ключа случайных потоков клеток
+    private final Population population = new Population();
+    private final AnimalPool animalPool = new AnimalPool();
+    private final IslandCensus census = new IslandCensus();
+    private final LockCounters lockCounters = new LockCounters();
+    // Биомасса растений и таблица соседей — плотные, в куче или вне её
+    private final CellStore cells;
+    private volatile MoveHandler moveHandler = MoveHandler.DIRECT;
+    private volatile EventRecorder events = EventRecorder.NONE;
+
+    public Island(int width, int height) {
+        this(width, height, SimulationSettings.INITIAL_ANIMAL_SPAWN_CHANCE);
+    }
+
+    public Island(int width, int height, double animalSpawnChance) {
+        this(width, height, animalSpawnChance, new Random().nextLong());
+    }
+
+    public Island(int width, int height, double animalSpawnChance, long seed) {
+        this(width, height, animalSpawnChance, seed, CellStorage.HEAP);
+    }
+
+    public Island(int width, int height, double animalSpawnChance, long seed, CellStorage storage) {
+        this(width, height, seed, storage);
+        populateIsland(animalSpawnChance);
+    }
+
+    // Пустой остров без растений и животных, например для загрузки снимка
+    private Island(int width, int height, long seed, CellStorage storage) {
+        int cellCount = cellCount(width, height);
+        this.width = width;
+        this.height = height;
+        this.seed = seed;
+        int chunkCount = (cellCount + CHUNK_SIZE - 1) >>> CHUNK_BITS;
+        this.chunks = new AtomicReferenceArray<>(chunkCount);
+        this.occupiedCells = new AtomicIntegerArray(chunkCount);
+        this.releaseCandidates = new AtomicLongArray((chunkCount + Long.SIZE - 1) / Long.SIZE);
+        this.cells = storage.create(cellCount);
+        initializeNeighbours();
+    }
+
+    private static int cellCount(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Island size must be positive: " + width + "x" + height);
+        }
+        long cells = (long) width * height;
+        if (cells > MAX_CELLS) {
+            throw new IllegalArgumentException("Island too large: " + width + "x" + height
+                    + " is " + cells + " cells, at most " + MAX_CELLS + " are supported");
+        }
+        return (int) cells;
+    }
+
+    static Island empty(int width, int height, long seed, CellStorage storage) {
+        return new Island(width, height, seed, storage);
+    }
+
+    private Location[] chunkOf(int cell) {
+        int chunk = cell >>> CHUNK_BITS;
+        Location[] locations = chunks.get(chunk);
+        if (locations != null) {
+            return locations;
+        }
+
+        int first = chunk << CHUNK_BITS;
+        locations = new Location[Math.min(CHUNK_SIZE, getCellCount() - first)];
+        for (int i = 0; i < locations.length; i++) {
+            int index = first + i;
+            locations[i] = new Location(index / height, index % height, this);
+        }
+        // Кусок мог параллельно создать другой поток — берём победителя
+        if (!chunks.compareAndSet(chunk, null, locations)) {
+            return chunks.get(chunk);
+        }
+        markReleaseCandidate(chunk); // Кусок могли выделить, просто заглянув в клетку
+        return locations;
+    }
+
+    // Клетка стала непустой или пустой; вызывает Location под своей блокировкой
+    void cellOccupied(int cell) {
+        occupiedCells.incrementAndGet(cell >>> CHUNK_BITS);
+    }
+
+    void cellEmptied(int cell) {
+        int chunk = cell >>> CHUNK_BITS;
+        if (occupiedCells.decrementAndGet(chunk) == 0) {
+            markReleaseCandidate(chunk);
+        }
+    }
+
+    private void markReleaseCandidate(int chunk) {
+        int word = chunk >>> 6;
+        long bit = 1L << chunk;
+        if ((releaseCandidates.get(word) & bit) == 0) {
+            releaseCandidates.getAndAccumulate(word, bit, (bits, added) -> bits | added);
+        }
+    }
+
+    // Освобождает опустевшие куски; вызывать только между ходами. Проверяются только
+    // отмеченные куски, так что стоимость зависит от изменений, а не от размера острова
+    public int releaseEmptyChunks() {
+        int released = 0;
+        for (int word = 0; word < releaseCandidates.length(); word++) {
+            long candidates = releaseCandidates.get(word);
+            if (candidates == 0) continue;
+            releaseCandidates.set(word, 0);
+            while (candidates != 0) {
+                int chunk = (word << 6) + Long.numberOfTrailingZeros(candidates);
+                candidates &= candidates - 1;
+                if (occupiedCells.get(chunk) == 0 && chunks.get(chunk) != null) {
+                    chunks.set(chunk, null);
+                    released++;
+                }
+            }
+        }
+        return released;
+    }
+
+    public int getAllocatedChunkCount() {
+        int allocated = 0;
+        for (int chunk = 0; chunk < chunks.length(); chunk++) {
+            if (chunks.get(chunk) != null) {
+                allocated++;
+            }
+        }
+        return allocated;
+    }
+
+    public int getChunkCount() {
+        return chunks.length();
+    }
+
+    private void initializeNeighbours() {
+        int[] neighbours = new int[MAX_NEIGHBOURS];
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                int count = 0;
+                for (int dir = 0; dir < MAX_NEIGHBOURS; dir++) {
+                    int nx = x + NEIGHBOUR_DX[dir];
+                    int ny = y + NEIGHBOUR_DY[dir];
+                    if (nx >= 0 && nx < width && ny >= 0 && ny < height) {
+                        neighbours[count++] = cellIndex(nx, ny);
+                    }
+                }
+                cells.setNeighbours(cellIndex(x, y), neighbours, count);
+            }
+        }
+    }
+
+    private void populateIsland(double animalSpawnChance) {
+        CellRandom random = new CellRandom();
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                random.reset(seed, CellRandom.SPAWN, 0, cellIndex(x, y));
+                // Add plants
+                cells.setBiomass(cellIndex(x, y), SimulationSettings.INITIAL_PLANTS_PER_LOCATION * Plant.WEIGHT);
+                census.plantsChanged(SimulationSettings.INITIAL_PLANTS_PER_LOCATION * Plant.WEIGHT);
+
+                // Add animals with a certain probability
+                if (random.nextDouble() < animalSpawnChance) {
+                    spawnRandomAnimals(getLocation(cellIndex(x, y)), random);
+                }
+            }
+        }
+    }
+
+    // Возвращает остров к начальному состоянию того же seed, не пересоздавая клетки
+    // и таблицу соседей; вызывать только между ходами
+    void reset(double animalSpawnChance) {
+        for (int cell = 0; cell < getCellCount(); cell = chunkEnd(cell)) {
+            for (int index = cell; index < chunkEnd(cell); index++) {
+                Location location = peekLocation(index);
+                if (location == null) break;
+                for (Animal animal : location.getAnimals()) {
+                    animal.die();
+                }
+            }
+        }
+        animalPool.reclaim();
+        census.plantsChanged(-census.plantBiomass());
+        tick = 0;
+        populateIsland(animalSpawnChance);
+    }
+
+    private void spawnRandomAnimals(Location location, RandomGenerator random) {
+        int animalsToSpawn = random.nextInt(5) + 1;
+        for (int i = 0; i < animalsToSpawn; i++) {
+            Species species = Species.byId(random.nextInt(Species.COUNT));
+            location.addAnimal(animalPool.obtain(species));
+        }
+    }
+
+    public Location getLocation(int x, int y) {
+        if (x >= 0 && x < width && y >= 0 && y < height) {
+            return getLocation(cellIndex(x, y));
+        }
+        return null;
+    }
+
+    // Рост растений одним проходом по массиву биомассы; не пересекается с ходом животных
+    public void growPlants(int growthRatePercent, long tick) {
+        long streamBase = CellRandom.streamBase(seed, CellRandom.GROWTH, tick);
+        census.plantsChanged(cells.growPlants(streamBase, growthRatePercent));
+    }
+
+    public double getPlantBiomass(int cell) { return cells.biomass(cell); }
+    public void setPlantBiomass(int cell, double biomass) { cells.setBiomass(cell, biomass); }
+
+    // Клетка по индексу; кусок выделяется при первом обращении
+    public Location getLocation(int index) {
+        return chunkOf(index)[index & (CHUNK_SIZE - 1)];
+    }
+
+    // Клетка по индексу или null, если её кусок сейчас не выделен
+    public Location peekLocation(int index) {
+        Location[] locations = chunks.get(index >>> CHUNK_BITS);
+        return locations == null ? null : locations[index & (CHUNK_SIZE - 1)];
+    }
+
+    // Первый индекс следующего куска: так обход пропускает невыделенные куски целиком
+    public int chunkEnd(int index) {
+        return Math.min(((index >>> CHUNK_BITS) + 1) << CHUNK_BITS, getCellCount());
+    }
+
+    public int getNeighbourCount(int cell) {
+        return cells.neighbourCount(cell);
+    }
+
+    // Выделяет кусок соседа; если нужен только индекс, лучше randomNeighbour
+    public Location getNeighbour(int cell, int i) {
+        return getLocation(cells.neighbour(cell, i));
+    }
+
+    // Индекс случайной соседней клетки (-1 — соседей нет); кусок соседа не выделяется,
+    // пока животное туда действительно не пойдёт
+    public int randomNeighbour(int cell, RandomGenerator random) {
+        int count = cells.neighbourCount(cell);
+        if (count == 0) return -1;
+        return cells.neighbour(cell, random.nextInt(count));
+    }
+
+    public int cellIndex(int x, int y) {
+        return x * height + y;
+    }
+
+    public long getSeed() { return seed; }
+    public long getTick() { return tick; }
+    void setTick(long tick) { this.tick = tick; }
+    void advanceTick() { tick++; }
+    public Population getPopulation() { return population; }
+    public AnimalPool getAnimalPool() { return animalPool; }
+    public IslandCensus getCensus() { return census; }
+    public LockCounters getLockCounters() { return lockCounters; }
+    public MoveHandler getMoveHandler() { return moveHandler; }
+    public void setMoveHandler(MoveHandler moveHandler) { this.moveHandler = moveHandler; }
+    public EventRecorder getEvents() { return events; }
+    public void setEvents(EventRecorder events) { this.events = events; }
+    public int getCellCount() { return width * height; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public long getCellStateBytes() { return cells.footprintBytes(); }
+
+    // Освобождает память клеток вне кучи; после этого остров использовать нельзя
+    @Override
+    public void close() {
+        cells.close();
+    }
+}
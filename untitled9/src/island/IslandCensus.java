@@ -0,0 +1,47 @@
+package island;
+
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+// Island-wide totals kept up to date by births, deaths, grazing and growth.
+// Moves do not change the totals, so they never touch these counters.
+// Striped adders keep concurrent updates from the tick engines cheap; reads
+// cost O(species) regardless of the map size.
+public class IslandCensus {
+    private final LongAdder[] animals = new LongAdder[Species.COUNT];
+    private final DoubleAdder plantBiomass = new DoubleAdder();
+
+    public IslandCensus() {
+        for (int id = 0; id < animals.length; id++) {
+            animals[id] = new LongAdder();
+        }
+    }
+
+    public void animalBorn(int speciesId) {
+        animals[speciesId].increment();
+    }
+
+    public void animalDied(int speciesId) {
+        animals[speciesId].decrement();
+    }
+
+    public void plantsChanged(double biomassDelta) {
+        plantBiomass.add(biomassDelta);
+    }
+
+    public long animalCount(int speciesId) {
+        return animals[speciesId].sum();
+    }
+
+    public long totalAnimals() {
+        long total = 0;
+        for (LongAdder counter : animals) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    public double plantBiomass() {
+        return plantBiomass.sum();
+    }
+}
@@ -0,0 +1,231 @@
+package island;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+
+public class IslandSimulation {
+    private final Island island;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService animalExecutor;
+    private final TickMode tickMode;
+    private final TiledTickEngine tiledEngine;
+    private final TwoPhaseTickEngine twoPhaseEngine;
+    private final VirtualThreadTickEngine virtualEngine;
+    private final QuadtreeTickEngine quadtreeEngine;
+    private final ForkJoinPool quadtreePool;
+    private final SimulationMetrics metrics;
+    private final Lock statisticsLock = new ReentrantLock();
+    private volatile boolean isRunning = false;
+
+    // Simulation settings (replace with your actual settings)
+    private static final int SIMULATION_TICK_DELAY_MS = 1000;
+    private static final int STATISTICS_PRINT_INTERVAL = 5000;
+    private static final int PLANT_GROWTH_RATE = 20; // 20% chance to grow a plant
+
+    public IslandSimulation(Island island) {
+        this(island, SimulationSettings.TICK_MODE);
+    }
+
+    public IslandSimulation(Island island, TickMode tickMode) {
+        this(island, tickMode, Runtime.getRuntime().availableProcessors());
+    }
+
+    public IslandSimulation(Island island, TickMode tickMode, int threads) {
+        this.island = island;
+        this.tickMode = tickMode;
+        this.scheduler = Executors.newScheduledThreadPool(3);
+        this.metrics = new SimulationMetrics(island);
+        this.animalExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, metrics.taskQueue());
+        this.tiledEngine = tickMode == TickMode.TILED
+                ? new TiledTickEngine(island, animalExecutor, SimulationSettings.TILE_SIZE, metrics)
+                : null;
+        this.twoPhaseEngine = tickMode == TickMode.TWO_PHASE
+                ? new TwoPhaseTickEngine(island, animalExecutor, threads, metrics)
+                : null;
+        this.virtualEngine = tickMode == TickMode.VIRTUAL
+                ? new VirtualThreadTickEngine(island, SimulationSettings.VIRTUAL_TILE_SIZE, metrics)
+                : null;
+        this.quadtreePool = tickMode == TickMode.QUADTREE ? new ForkJoinPool(threads) : null;
+        this.quadtreeEngine = tickMode == TickMode.QUADTREE
+                ? new QuadtreeTickEngine(island, quadtreePool, SimulationSettings.QUADTREE_SPLIT_THRESHOLD, metrics)
+                : null;
+        // Метрики исполнителя — того планировщика, на котором режим действительно работает
+        switch (tickMode) {
+            case VIRTUAL -> metrics.watch(virtualEngine.scheduler());
+            case QUADTREE -> metrics.watch(quadtreeEngine.scheduler());
+            default -> metrics.watch(animalExecutor);
+        }
+    }
+
+    public void start() {
+        if (!isRunning) {
+            isRunning = true;
+            scheduler.scheduleAtFixedRate(this::tick,
+                    0, SIMULATION_TICK_DELAY_MS, TimeUnit.MILLISECONDS);
+            scheduler.scheduleAtFixedRate(this::printStatistics,
+                    0, STATISTICS_PRINT_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Прогон без расписания: ходы идут подряд так быстро, как позволяет движок
+    public void runTicks(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            tick();
+        }
+    }
+
+    // Растения растут перед ходом животных, а не параллельно с ним
+    void tick() {
+        long start = System.nanoTime();
+        growPlants();
+        long grown = System.nanoTime();
+        animalLifeCycle();
+        long lived = System.nanoTime();
+        island.getAnimalPool().reclaim(); // Погибшие за ход животные снова доступны для рождений
+        island.releaseEmptyChunks();
+        island.advanceTick();
+        island.getEvents().beginTick(island.getTick());
+        long end = System.nanoTime();
+
+        metrics.record(TickPhase.GROWTH, grown - start);
+        metrics.record(TickPhase.ANIMALS, lived - grown);
+        metrics.record(TickPhase.HOUSEKEEPING, end - lived);
+        metrics.record(TickPhase.TICK, end - start);
+    }
+
+    public SimulationMetrics getMetrics() {
+        return metrics;
+    }
+
+    void growPlants() {
+        island.growPlants(PLANT_GROWTH_RATE, island.getTick());
+    }
+
+    void animalLifeCycle() {
+        switch (tickMode) {
+            case TILED -> tiledEngine.tick(island.getTick());
+            case TWO_PHASE -> twoPhaseEngine.tick(island.getTick());
+            case VIRTUAL -> virtualEngine.tick(island.getTick());
+            case QUADTREE -> quadtreeEngine.tick(island.getTick());
+            case PER_ANIMAL -> perAnimalLifeCycle();
+        }
+    }
+
+    private void perAnimalLifeCycle() {
+        long tick = island.getTick();
+        long start = System.nanoTime();
+
+        // Сначала снимок всех жителей, потом задачи: иначе животное, перебежавшее
+        // в ещё не просмотренную клетку, получило бы вторую задачу в том же ходу
+        List<Runnable> tasks = new ArrayList<>();
+        for (int x = 0; x < island.getWidth(); x++) {
+            for (int y = 0; y < island.getHeight(); y++) {
+                Location location = island.peekLocation(island.cellIndex(x, y));
+                if (location == null) continue;
+                List<Animal> animals = location.getAnimals();
+                for (int i = 0; i < animals.size(); i++) {
+                    Animal animal = animals.get(i);
+                    // Свой поток случайных чисел у каждого животного клетки
+                    long stream = ((long) location.getIndex() << 32) | i;
+                    tasks.add(() -> animal.liveCycle(
+                            CellRandom.of(island.getSeed(), CellRandom.ANIMALS, tick, stream)));
+                }
+            }
+        }
+
+        long scheduled = System.nanoTime();
+        metrics.record(TickPhase.SCHEDULE, scheduled - start);
+
+        List<Future<?>> futures = new ArrayList<>(tasks.size());
+        for (Runnable task : tasks) {
+            futures.add(animalExecutor.submit(task));
+        }
+
+        // Wait for all tasks to complete
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException | ExecutionException e) {
+                System.err.println("Error during animal life cycle: " + e.getMessage());
+            }
+        }
+        metrics.record(TickPhase.LIFE_CYCLE, System.nanoTime() - scheduled);
+    }
+
+    record Statistics(double plantBiomass, long totalAnimals, long[] animalsBySpecies) {}
+
+    // Читаем счётчики острова: O(число видов) при любом размере карты
+    Statistics collectStatistics() {
+        long start = System.nanoTime();
+        IslandCensus census = island.getCensus();
+        long[] animalCounts = new long[Species.COUNT];
+        for (int id = 0; id < Species.COUNT; id++) {
+            animalCounts[id] = census.animalCount(id);
+        }
+        Statistics statistics = new Statistics(census.plantBiomass(), census.totalAnimals(), animalCounts);
+        metrics.record(TickPhase.STATISTICS, System.nanoTime() - start);
+        return statistics;
+    }
+
+    void printStatistics() {
+        statisticsLock.lock();
+        try {
+            Statistics statistics = collectStatistics();
+            long[] animalCounts = statistics.animalsBySpecies();
+
+            System.out.println("\n=== Island Statistics ===");
+            System.out.printf("Total plants: %d | Total animals: %d%n",
+                    (long) (statistics.plantBiomass() / Plant.WEIGHT), statistics.totalAnimals());
+            System.out.println("Animals by type:");
+            Arrays.stream(Species.values())
+                    .filter(species -> animalCounts[species.id()] > 0)
+                    .sorted(Comparator.comparing(species -> species.getType().getSimpleName()))
+                    .forEach(species -> System.out.printf("%-12s: %d%n",
+                            species.getType().getSimpleName(), animalCounts[species.id()]));
+
+            // Simple console map
+            System.out.println("\nIsland map (sample 10x10):");
+            for (int y = 0; y < 10; y++) {
+                for (int x = 0; x < 10; x++) {
+                    int cell = island.cellIndex(x, y);
+                    Location loc = island.peekLocation(cell);
+                    List<Animal> animals = loc != null && loc.getAnimalCount() > 0 ? loc.getAnimals() : List.of();
+                    if (!animals.isEmpty()) {
+                        System.out.print(animals.get(0).getUnicodeSymbol());
+                    } else if (island.getPlantBiomass(cell) > 0) {
+                        System.out.print("🌿");
+                    } else {
+                        System.out.print("·");
+                    }
+                }
+                System.out.println();
+            }
+        } finally {
+            statisticsLock.unlock();
+        }
+    }
+
+    public void stop() {
+        isRunning = false;
+        metrics.unregister();
+        scheduler.shutdown();
+        animalExecutor.shutdown();
+        if (quadtreePool != null) {
+            quadtreePool.shutdown(); // Ход ждёт свои задачи сам, ждать пул не нужно
+        }
+        try {
+            if (!scheduler.awaitTermination(1, TimeUnit.SECONDS)) {
+                scheduler.shutdownNow();
+            }
+            if (!animalExecutor.awaitTermination(1, TimeUnit.SECONDS)) {
+                animalExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            animalExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        System.out.println("Simulation stopped");
+    }
+}
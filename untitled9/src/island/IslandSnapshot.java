@@ -0,0 +1,185 @@
+package island;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Binary checkpoint of a whole island, written and read through memory-mapped
+// windows so that multi-GB states never pass through an intermediate heap buffer.
+// Only call it between ticks.
+//
+// Layout (little-endian), one column after another:
+//   header   magic, version, width, height, seed, tick
+//   biomass  double per cell
+//   counts   int per cell: animals living in the cell
+//   species  byte per animal, cells in index order
+//   satiety  double per animal, same order
+// Random streams are derived from (seed, tick, cell), so seed and tick are the
+// whole RNG state.
+public final class IslandSnapshot {
+    private static final int MAGIC = 0x444C5349; // "ISLD"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 * Integer.BYTES + 2 * Long.BYTES;
+    private static final long WINDOW_BYTES = 64L << 20;
+
+    private IslandSnapshot() {}
+
+    public static void save(Island island, Path path) throws IOException {
+        int cells = island.getCellCount();
+        long animals = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            Location location = island.peekLocation(cell);
+            animals += location == null ? 0 : location.getAnimalCount();
+        }
+
+        long biomassAt = HEADER_BYTES;
+        long countsAt = biomassAt + (long) cells * Double.BYTES;
+        long speciesAt = countsAt + (long) cells * Integer.BYTES;
+        long satietyAt = speciesAt + animals;
+        long size = satietyAt + animals * Double.BYTES;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(1), size - 1); // Задаём размер файла заранее
+
+            Cursor header = new Cursor(channel, FileChannel.MapMode.READ_WRITE, 0);
+            header.putInt(MAGIC);
+            header.putInt(VERSION);
+            header.putInt(island.getWidth());
+            header.putInt(island.getHeight());
+            header.putLong(island.getSeed());
+            header.putLong(island.getTick());
+            header.force();
+
+            Cursor biomass = new Cursor(channel, FileChannel.MapMode.READ_WRITE, biomassAt);
+            Cursor counts = new Cursor(channel, FileChannel.MapMode.READ_WRITE, countsAt);
+            Cursor species = new Cursor(channel, FileChannel.MapMode.READ_WRITE, speciesAt);
+            Cursor satiety = new Cursor(channel, FileChannel.MapMode.READ_WRITE, satietyAt);
+            for (int cell = 0; cell < cells; cell++) {
+                Location location = island.peekLocation(cell);
+                List<Animal> residents = location != null && location.getAnimalCount() > 0
+                        ? location.getAnimals() : List.of();
+                biomass.putDouble(island.getPlantBiomass(cell));
+                counts.putInt(residents.size());
+                for (Animal animal : residents) {
+                    species.putByte((byte) animal.getSpeciesId());
+                    satiety.putDouble(animal.getSatiety());
+                }
+            }
+            biomass.force();
+            counts.force();
+            species.force();
+            satiety.force();
+        }
+    }
+
+    public static Island load(Path path) throws IOException {
+        return load(path, CellStorage.HEAP);
+    }
+
+    public static Island load(Path path, CellStorage storage) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            Cursor header = new Cursor(channel, FileChannel.MapMode.READ_ONLY, 0);
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not an island snapshot: " + path);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + ": " + path);
+            }
+            int width = header.getInt();
+            int height = header.getInt();
+            long seed = header.getLong();
+            long tick = header.getLong();
+
+            Island island = Island.empty(width, height, seed, storage);
+            island.setTick(tick);
+
+            int cells = island.getCellCount();
+            long biomassAt = HEADER_BYTES;
+            long countsAt = biomassAt + (long) cells * Double.BYTES;
+            long speciesAt = countsAt + (long) cells * Integer.BYTES;
+
+            Cursor counts = new Cursor(channel, FileChannel.MapMode.READ_ONLY, countsAt);
+            long animals = 0;
+            for (int cell = 0; cell < cells; cell++) {
+                animals += counts.getInt();
+            }
+            long satietyAt = speciesAt + animals;
+
+            Cursor biomass = new Cursor(channel, FileChannel.MapMode.READ_ONLY, biomassAt);
+            counts = new Cursor(channel, FileChannel.MapMode.READ_ONLY, countsAt);
+            Cursor species = new Cursor(channel, FileChannel.MapMode.READ_ONLY, speciesAt);
+            Cursor satiety = new Cursor(channel, FileChannel.MapMode.READ_ONLY, satietyAt);
+            double totalBiomass = 0;
+            for (int cell = 0; cell < cells; cell++) {
+                double plants = biomass.getDouble();
+                island.setPlantBiomass(cell, plants);
+                totalBiomass += plants;
+
+                int residents = counts.getInt();
+                Location location = residents > 0 ? island.getLocation(cell) : null;
+                for (int i = 0; i < residents; i++) {
+                    Animal animal = island.getAnimalPool().obtain(Species.byId(species.getByte()));
+                    double savedSatiety = satiety.getDouble();
+                    if (location.addAnimal(animal)) {
+                        animal.setSatiety(savedSatiety);
+                    }
+                }
+            }
+            island.getCensus().plantsChanged(totalBiomass);
+            return island;
+        }
+    }
+
+    // Последовательный доступ к файлу через окна отображения памяти
+    private static final class Cursor {
+        private final FileChannel channel;
+        private final FileChannel.MapMode mode;
+        private long position;
+        private long windowEnd;
+        private MappedByteBuffer window;
+
+        Cursor(FileChannel channel, FileChannel.MapMode mode, long position) {
+            this.channel = channel;
+            this.mode = mode;
+            this.position = position;
+            this.windowEnd = position;
+        }
+
+        private ByteBuffer advance(int bytes) throws IOException {
+            if (position + bytes > windowEnd) {
+                force();
+                long size = Math.min(WINDOW_BYTES, channel.size() - position);
+                if (size < bytes) {
+                    throw new IOException("Truncated snapshot at offset " + position);
+                }
+                window = channel.map(mode, position, size);
+                window.order(ByteOrder.LITTLE_ENDIAN);
+                windowEnd = position + size;
+            }
+            position += bytes;
+            return window;
+        }
+
+        void putByte(byte value) throws IOException { advance(Byte.BYTES).put(value); }
+        void putInt(int value) throws IOException { advance(Integer.BYTES).putInt(value); }
+        void putLong(long value) throws IOException { advance(Long.BYTES).putLong(value); }
+        void putDouble(double value) throws IOException { advance(Double.BYTES).putDouble(value); }
+        byte getByte() throws IOException { return advance(Byte.BYTES).get(); }
+        int getInt() throws IOException { return advance(Integer.BYTES).getInt(); }
+        long getLong() throws IOException { return advance(Long.BYTES).getLong(); }
+        double getDouble() throws IOException { return advance(Double.BYTES).getDouble(); }
+
+        void force() {
+            if (window != null && mode == FileChannel.MapMode.READ_WRITE) {
+                window.force();
+            }
+        }
+    }
+}
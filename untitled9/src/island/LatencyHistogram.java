@@ -0,0 +1,68 @@
+package island;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Log-linear histogram of durations in nanoseconds: every power of two is split
+// into 8 sub-buckets, so percentiles are within 12.5% of the true value while the
+// whole range up to Long.MAX_VALUE fits in under 500 counters. Recording is one
+// atomic increment plus a max update and never allocates; the total count is
+// summed from the buckets when read.
+public final class LatencyHistogram implements PhaseLatencyMXBean {
+    private static final int SUB_BITS = 3;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int LINEAR = SUB_COUNT * 2; // Значения 0..15 — каждое в своей корзине
+    private static final int BUCKETS = LINEAR + (63 - 4 + 1) * SUB_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts.incrementAndGet(bucketOf(value));
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    private static int bucketOf(long value) {
+        if (value < LINEAR) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+        return LINEAR + (exponent - 4) * SUB_COUNT + sub;
+    }
+
+    private static long upperBound(int bucket) {
+        if (bucket < LINEAR) return bucket;
+        int exponent = (bucket - LINEAR) / SUB_COUNT + 4;
+        int sub = (bucket - LINEAR) % SUB_COUNT;
+        long width = 1L << (exponent - SUB_BITS);
+        return ((SUB_COUNT + sub) * width) + width - 1;
+    }
+
+    // Значение, не меньше которого fraction записей (0.5 — медиана)
+    public long percentile(double fraction) {
+        long total = getCount();
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(fraction * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= rank) {
+                return Math.min(upperBound(bucket), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    @Override
+    public long getCount() {
+        long total = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            total += counts.get(bucket);
+        }
+        return total;
+    }
+
+    @Override public long getP50Nanos() { return percentile(0.50); }
+    @Override public long getP99Nanos() { return percentile(0.99); }
+    @Override public long getMaxNanos() { return max.get(); }
+}
@@ -0,0 +1,14 @@
+package island;
+
+import java.util.random.RandomGenerator;
+
+public abstract class LivingEntity {
+    protected Location location;
+
+    public abstract void liveCycle(RandomGenerator random);
+    public abstract void die();
+
+    public abstract double getWeight();
+    public abstract int getMaxPerCell();
+    public void setLocation(Location location) { this.location = location; }
+}
@@ -0,0 +1,354 @@
+package island;
+
+import java.util.*;
+import java.util.random.RandomGenerator;
+import java.util.concurrent.locks.StampedLock;
+
+// Читатели не блокируются: случайный выбор добычи идёт через оптимистичное чтение
+// StampedLock, а getAnimals() отдаёт неизменяемый снимок, который переиспользуется,
+// пока клетка не изменилась. Массивы корзин не меняются на месте при росте —
+// старую ссылку всегда можно безопасно прочитать, а validate отсеет гонку.
+public class Location {
+    private final int x;
+    private final int y;
+    private final int index;
+    private final Island island;
+    // Животные по видам: buckets[s][0 .. speciesCounts[s]); корзина создаётся при первом животном вида
+    private final Animal[][] buckets = new Animal[Species.COUNT][];
+    // Число животных каждого вида; меняется только вместе с корзинами
+    private final int[] speciesCounts = new int[Species.COUNT];
+    private int animalCount;
+    // Растёт при каждом изменении состава клетки; по нему проверяется снимок
+    private volatile int version;
+    private volatile Snapshot snapshot;
+    private final StampedLock lock = new StampedLock();
+
+    private record Snapshot(int version, List<Animal> animals) {}
+
+    public Location(int x, int y, Island island) {
+        this.x = x;
+        this.y = y;
+        this.island = Objects.requireNonNull(island, "Island cannot be null");
+        this.index = island.cellIndex(x, y);
+    }
+
+    public boolean addAnimal(Animal animal) {
+        if (animal.isDead()) return false;
+        long stamp = writeLock();
+        try {
+            if (speciesCounts[animal.getSpeciesId()] < animal.getMaxPerCell()) {
+                insert(animal);
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void removeAnimal(Animal animal) {
+        long stamp = writeLock();
+        try {
+            delete(animal);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // Переход между клетками под обеими блокировками, взятыми по возрастанию индекса,
+    // чтобы встречные переходы не заблокировали друг друга. Животное либо оказывается
+    // в to, либо остаётся в from — промежуточного состояния вне клеток нет
+    static boolean transfer(Animal animal, Location from, Location to) {
+        if (from == to) return false;
+        Location first = from.index < to.index ? from : to;
+        Location second = first == from ? to : from;
+        long firstStamp = first.writeLock();
+        try {
+            long secondStamp = second.writeLock();
+            try {
+                if (animal.isDead() || to.speciesCounts[animal.getSpeciesId()] >= animal.getMaxPerCell()) {
+                    return false;
+                }
+                from.delete(animal);
+                to.insert(animal);
+                return true;
+            } finally {
+                second.lock.unlockWrite(secondStamp);
+            }
+        } finally {
+            first.lock.unlockWrite(firstStamp);
+        }
+    }
+
+    // Пакетный приём переезжающих: одна блокировка на клетку, место для каждого вида
+    // считается один раз на пакет, корзина растёт не больше одного раза. В accepted
+    // отмечаются принятые; возвращает их число
+    int addAnimals(Animal[] animals, int count, boolean[] accepted) {
+        SpeciesTable table = SpeciesTable.get();
+        int[] arriving = new int[Species.COUNT];
+        int added = 0;
+        long stamp = writeLock();
+        try {
+            int[] room = new int[Species.COUNT];
+            for (int speciesId = 0; speciesId < room.length; speciesId++) {
+                room[speciesId] = table.maxPerCell(speciesId) - speciesCounts[speciesId];
+            }
+            for (int i = 0; i < count; i++) {
+                int speciesId = animals[i].getSpeciesId();
+                accepted[i] = !animals[i].isDead() && room[speciesId] > 0;
+                if (accepted[i]) {
+                    room[speciesId]--;
+                    arriving[speciesId]++;
+                    added++;
+                }
+            }
+            if (added == 0) return 0;
+
+            for (int speciesId = 0; speciesId < arriving.length; speciesId++) {
+                if (arriving[speciesId] > 0) {
+                    reserve(speciesId, speciesCounts[speciesId] + arriving[speciesId]);
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                if (!accepted[i]) continue;
+                Animal animal = animals[i];
+                int speciesId = animal.getSpeciesId();
+                buckets[speciesId][speciesCounts[speciesId]++] = animal;
+                animal.setLocation(this);
+            }
+            int before = animalCount;
+            animalCount += added;
+            version++;
+            countChanged(before);
+            return added;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // Пакетный уход переселившихся: по одному проходу сжатия на корзину вида.
+    // animals идут в порядке корзин (так их перечисляет getAnimals()); если порядок
+    // нарушен, оставшиеся удаляются по одному
+    void removeAnimals(Animal[] animals, int count) {
+        long stamp = writeLock();
+        try {
+            int next = 0;
+            while (next < count) {
+                int speciesId = animals[next].getSpeciesId();
+                Animal[] bucket = buckets[speciesId];
+                int size = speciesCounts[speciesId];
+                int kept = 0;
+                for (int i = 0; i < size; i++) {
+                    if (next < count && bucket[i] == animals[next]) {
+                        next++;
+                    } else {
+                        bucket[kept++] = bucket[i];
+                    }
+                }
+                if (kept < size) {
+                    Arrays.fill(bucket, kept, size, null);
+                    speciesCounts[speciesId] = kept;
+                    int before = animalCount;
+                    animalCount -= size - kept;
+                    version++;
+                    countChanged(before);
+                }
+
+                if (next < count && animals[next].getSpeciesId() == speciesId) {
+                    for (; next < count; next++) {
+                        delete(animals[next]); // Порядок не совпал с корзиной
+                    }
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // Захват на запись с учётом ожидания: сначала пробуем без очереди
+    private long writeLock() {
+        LockCounters counters = island.getLockCounters();
+        long stamp = lock.tryWriteLock();
+        if (stamp == 0) {
+            counters.contended();
+            stamp = lock.writeLock();
+        }
+        counters.acquired();
+        return stamp;
+    }
+
+    // Вызывается после неудачного оптимистичного чтения
+    private long readLock() {
+        LockCounters counters = island.getLockCounters();
+        counters.optimisticRetry();
+        long stamp = lock.tryReadLock();
+        if (stamp == 0) {
+            counters.contended();
+            stamp = lock.readLock();
+        }
+        counters.acquired();
+        return stamp;
+    }
+
+    private void insert(Animal animal) {
+        int speciesId = animal.getSpeciesId();
+        int count = speciesCounts[speciesId];
+        reserve(speciesId, count + 1);
+        buckets[speciesId][count] = animal;
+        speciesCounts[speciesId] = count + 1;
+        animalCount++;
+        version++;
+        countChanged(animalCount - 1);
+        animal.setLocation(this);
+    }
+
+    // Остров считает заселённые клетки по кускам, чтобы освобождать опустевшие куски
+    private void countChanged(int before) {
+        if (before == 0 && animalCount > 0) {
+            island.cellOccupied(index);
+        } else if (before > 0 && animalCount == 0) {
+            island.cellEmptied(index);
+        }
+    }
+
+    // Корзина вида вмещает не меньше capacity животных
+    private void reserve(int speciesId, int capacity) {
+        Animal[] bucket = buckets[speciesId];
+        if (bucket == null) {
+            buckets[speciesId] = new Animal[Math.max(4, capacity)];
+        } else if (capacity > bucket.length) {
+            // Новый массив, а не расширение на месте: читатель может держать старый
+            buckets[speciesId] = Arrays.copyOf(bucket, Math.max(bucket.length * 2, capacity));
+        }
+    }
+
+    private void delete(Animal animal) {
+        int speciesId = animal.getSpeciesId();
+        Animal[] bucket = buckets[speciesId];
+        int count = speciesCounts[speciesId];
+        for (int i = 0; i < count; i++) {
+            if (bucket[i] == animal) {
+                System.arraycopy(bucket, i + 1, bucket, i, count - i - 1); // Порядок сохраняется
+                bucket[count - 1] = null;
+                speciesCounts[speciesId] = count - 1;
+                animalCount--;
+                version++;
+                countChanged(animalCount + 1);
+                return;
+            }
+        }
+    }
+
+    // Съедает до wanted биомассы, возвращает сколько удалось съесть
+    public double grazePlants(double wanted) {
+        long stamp = writeLock();
+        try {
+            return takeBiomass(wanted);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private double takeBiomass(double wanted) {
+        double biomass = island.getPlantBiomass(index);
+        double eaten = Math.min(wanted, biomass);
+        island.setPlantBiomass(index, biomass - eaten);
+        island.getCensus().plantsChanged(-eaten);
+        return eaten;
+    }
+
+    // Фаза применения TwoPhaseTickEngine: клетку меняет только один поток, блокировка не нужна
+    void addAnimalOwned(Animal animal) {
+        insert(animal);
+    }
+
+    void removeAnimalOwned(Animal animal) {
+        delete(animal);
+    }
+
+    double grazePlantsOwned(double wanted) {
+        return takeBiomass(wanted);
+    }
+
+    public List<Location> getAdjacentLocations() {
+        int count = island.getNeighbourCount(index);
+        List<Location> adjacent = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            adjacent.add(island.getNeighbour(index, i));
+        }
+        return adjacent;
+    }
+
+    // Неизменяемый снимок обитателей; пока клетка не меняется, все читатели получают
+    // один и тот же список без копирования и без блокировки
+    public List<Animal> getAnimals() {
+        Snapshot current = snapshot;
+        if (current != null && current.version() == version) {
+            return current.animals();
+        }
+
+        long stamp = lock.tryOptimisticRead();
+        int seen = version;
+        Animal[] copy = copyAnimals();
+        if (copy == null || !lock.validate(stamp)) {
+            stamp = readLock(); // Писатель помешал — читаем под блокировкой
+            try {
+                seen = version;
+                copy = copyAnimals();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        List<Animal> animals = Collections.unmodifiableList(Arrays.asList(copy));
+        snapshot = new Snapshot(seen, animals);
+        return animals;
+    }
+
+    // null, если состав клетки поменялся прямо во время копирования
+    private Animal[] copyAnimals() {
+        Animal[] copy = new Animal[Math.max(animalCount, 0)];
+        int size = 0;
+        for (int speciesId = 0; speciesId < buckets.length; speciesId++) {
+            Animal[] bucket = buckets[speciesId];
+            int count = speciesCounts[speciesId];
+            if (count == 0) continue;
+            if (bucket == null || count > bucket.length || size + count > copy.length) return null;
+            System.arraycopy(bucket, 0, copy, size, count);
+            size += count;
+        }
+        return size == copy.length ? copy : null;
+    }
+
+    // Случайное животное данного вида без копирования списков (null — вида в клетке нет).
+    // Индекс выбирается один раз, чтобы повтор под блокировкой не сдвигал поток случайных чисел
+    public Animal randomAnimalOf(int speciesId, RandomGenerator random) {
+        long stamp = lock.tryOptimisticRead();
+        Animal[] bucket = buckets[speciesId];
+        int count = speciesCounts[speciesId];
+        if (bucket == null || count <= 0) return null;
+        int index = random.nextInt(count);
+        Animal chosen = index < bucket.length ? bucket[index] : null;
+        if (lock.validate(stamp)) {
+            return chosen;
+        }
+
+        stamp = readLock();
+        try {
+            count = speciesCounts[speciesId];
+            return count == 0 ? null : buckets[speciesId][Math.min(index, count - 1)];
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public double getPlantBiomass() {
+        return island.getPlantBiomass(index);
+    }
+
+    public int countOf(int speciesId) { return speciesCounts[speciesId]; }
+    public int getAnimalCount() { return animalCount; }
+    public int getX() { return x; }
+    public int getY() { return y; }
+    public int getIndex() { return index; }
+    public Island getIsland() { return island; }
+}
\ No newline at end of file
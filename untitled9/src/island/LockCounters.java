@@ -0,0 +1,18 @@
+package island;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Счётчики блокировок клеток острова; LongAdder, чтобы учёт сам не стал точкой конкуренции
+public final class LockCounters {
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder contended = new LongAdder();
+    private final LongAdder optimisticRetries = new LongAdder();
+
+    void acquired() { acquisitions.increment(); }
+    void contended() { contended.increment(); }
+    void optimisticRetry() { optimisticRetries.increment(); }
+
+    public long acquisitions() { return acquisitions.sum(); }
+    public long contendedWaits() { return contended.sum(); }
+    public long optimisticRetries() { return optimisticRetries.sum(); }
+}
@@ -1,3 +1,7 @@
+package island;
+
+import javax.management.JMException;
+
 public class Main {
     public static void main(String[] args) {
         System.out.println("Hello, World!");
@@ -5,6 +9,11 @@ public class Main {
         // Создаем остров и запускаем симуляцию
         Island island = new Island(100, 20);
         IslandSimulation simulation = new IslandSimulation(island);
+        try {
+            simulation.getMetrics().register("main"); // Фазы хода видны в JConsole
+        } catch (JMException e) {
+            System.err.println("JMX metrics unavailable: " + e.getMessage());
+        }
         simulation.start();
 
         // Добавляем хук для остановки симуляции при завершении программы
@@ -0,0 +1,14 @@
+package island;
+
+// Перемещение животного между клетками; движок тика может подменить стратегию
+@FunctionalInterface
+public interface MoveHandler {
+    // Нет места в целевой клетке — животное просто остаётся на месте
+    MoveHandler DIRECT = (animal, from, to) -> {
+        if (Location.transfer(animal, from, to)) {
+            to.getIsland().getEvents().move(animal.getSpeciesId(), from.getIndex(), to.getIndex());
+        }
+    };
+
+    void move(Animal animal, Location from, Location to);
+}
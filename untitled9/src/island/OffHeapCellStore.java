@@ -0,0 +1,124 @@
+package island;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static java.lang.foreign.MemoryLayout.PathElement.groupElement;
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+
+// Off-heap cell state in MemorySegments from a shared Arena, so the collector never
+// scans the biomass column and the neighbour table. Biomass is its own column
+// because plant growth streams through it; neighbours are fixed-size structs.
+// Other per-cell arrays stay on the heap: the chunk table, the TWO_PHASE plans
+// and arrival offsets, and the QUADTREE summed-area table.
+// Uses the FFM API (final since JDK 22).
+final class OffHeapCellStore implements CellStore {
+    private static final StructLayout NEIGHBOURS = MemoryLayout.structLayout(
+            JAVA_BYTE.withName("count"),
+            MemoryLayout.paddingLayout(3),
+            MemoryLayout.sequenceLayout(MAX_NEIGHBOURS, JAVA_INT).withName("cells"));
+    private static final long NEIGHBOURS_BYTES = NEIGHBOURS.byteSize();
+    private static final long COUNT_OFFSET = NEIGHBOURS.byteOffset(groupElement("count"));
+    private static final long CELLS_OFFSET = NEIGHBOURS.byteOffset(groupElement("cells"));
+    // Блок биомассы, который ядро роста обрабатывает в куче: 32 КБ, помещается в кэш L1/L2
+    private static final int BLOCK = 4096;
+
+    private final Arena arena;
+    private final MemorySegment biomass;
+    private final MemorySegment neighbours;
+    private final PlantGrowthKernel plantGrowthKernel = PlantGrowthKernel.best();
+    private final double[] block = new double[BLOCK];
+    private final int cells;
+
+    private OffHeapCellStore(Arena arena, MemorySegment memory, int cells) {
+        this.arena = arena;
+        this.cells = cells;
+        long biomassBytes = (long) cells * Double.BYTES;
+        this.biomass = memory.asSlice(0, biomassBytes);
+        this.neighbours = memory.asSlice(biomassBytes, cells * NEIGHBOURS_BYTES);
+    }
+
+    private static long bytesFor(int cells) {
+        return (long) cells * (Double.BYTES + NEIGHBOURS_BYTES);
+    }
+
+    static OffHeapCellStore allocate(int cells) {
+        Arena arena = Arena.ofShared();
+        MemorySegment memory = arena.allocate(bytesFor(cells), JAVA_DOUBLE.byteAlignment());
+        return new OffHeapCellStore(arena, memory, cells); // allocate() обнуляет память
+    }
+
+    // Содержимое файла перезаписывается: состояние острова строится заново
+    static OffHeapCellStore map(int cells, Path path) {
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MemorySegment memory = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytesFor(cells), arena);
+            return new OffHeapCellStore(arena, memory, cells);
+        } catch (IOException e) {
+            arena.close();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public double biomass(int cell) {
+        return biomass.getAtIndex(JAVA_DOUBLE, cell);
+    }
+
+    @Override
+    public void setBiomass(int cell, double value) {
+        biomass.setAtIndex(JAVA_DOUBLE, cell, value);
+    }
+
+    @Override
+    public int neighbourCount(int cell) {
+        return neighbours.get(JAVA_BYTE, cell * NEIGHBOURS_BYTES + COUNT_OFFSET);
+    }
+
+    @Override
+    public int neighbour(int cell, int i) {
+        return neighbours.get(JAVA_INT, cell * NEIGHBOURS_BYTES + CELLS_OFFSET + (long) i * Integer.BYTES);
+    }
+
+    @Override
+    public void setNeighbours(int cell, int[] cellNeighbours, int count) {
+        long base = cell * NEIGHBOURS_BYTES;
+        neighbours.set(JAVA_BYTE, base + COUNT_OFFSET, (byte) count);
+        for (int i = 0; i < count; i++) {
+            neighbours.set(JAVA_INT, base + CELLS_OFFSET + (long) i * Integer.BYTES, cellNeighbours[i]);
+        }
+    }
+
+    // То же ядро, что у HeapCellStore, по блокам, скопированным в кучу, — острова совпадают
+    @Override
+    public double growPlants(long streamBase, int growthRatePercent) {
+        double grown = 0;
+        for (int start = 0; start < cells; start += BLOCK) {
+            int count = Math.min(BLOCK, cells - start);
+            MemorySegment.copy(biomass, JAVA_DOUBLE, (long) start * Double.BYTES, block, 0, count);
+            grown += plantGrowthKernel.grow(block, count, start, streamBase, growthRatePercent);
+            MemorySegment.copy(block, 0, biomass, JAVA_DOUBLE, (long) start * Double.BYTES, count);
+        }
+        return grown;
+    }
+
+    @Override
+    public long footprintBytes() {
+        return bytesFor(cells);
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+}
@@ -0,0 +1,8 @@
+package island;
+
+public interface PhaseLatencyMXBean {
+    long getCount();
+    long getP50Nanos();
+    long getP99Nanos();
+    long getMaxNanos();
+}
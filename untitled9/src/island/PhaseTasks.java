@@ -0,0 +1,59 @@
+package island;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Runs the tasks of one tick phase as a unit. The first failure stops tasks that
+// have not started yet, the call returns only once every submitted task has
+// stopped, and the failure is rethrown so the engine aborts the tick instead of
+// building the next phase on partial state. An interrupt is handled the same way.
+final class PhaseTasks {
+    private PhaseTasks() {}
+
+    static void runAll(ExecutorService executor, List<Runnable> tasks) {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Future<?>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Runnable task : tasks) {
+                futures.add(executor.submit(() -> {
+                    if (failure.get() != null) return; // Фаза уже провалена — не начинаем
+                    try {
+                        task.run();
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    }
+                }));
+            }
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, e); // Исполнитель отказал — ждём уже отправленные
+        }
+
+        boolean interrupted = false;
+        for (Future<?> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    // Дожидаемся задач, которые уже меняют клетки, и только потом выходим
+                    interrupted = true;
+                    failure.compareAndSet(null, e);
+                } catch (ExecutionException e) {
+                    failure.compareAndSet(null, e.getCause());
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        Throwable cause = failure.get();
+        if (cause instanceof Error error) throw error;
+        if (cause != null) throw new IllegalStateException("Tick phase failed", cause);
+    }
+}
@@ -0,0 +1,10 @@
+package island;
+
+// Растения хранятся как биомасса клетки; здесь только константы вида
+public final class Plant {
+    public static final double WEIGHT = 1;
+    public static final int MAX_PER_CELL = 200;
+    public static final double MAX_BIOMASS_PER_CELL = WEIGHT * MAX_PER_CELL;
+
+    private Plant() {}
+}
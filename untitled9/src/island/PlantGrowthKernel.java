@@ -0,0 +1,30 @@
+package island;
+
+// Пакетный рост растений по плотному массиву биомассы. Клетка прирастает на
+// Plant.WEIGHT, если старшие 32 бита первого числа её потока GROWTH меньше порога,
+// так что скалярное и векторное ядро дают одинаковый остров при любом seed.
+public interface PlantGrowthKernel {
+    PlantGrowthKernel SCALAR = new ScalarPlantGrowthKernel();
+
+    // Возвращает суммарный прирост биомассы
+    default double grow(double[] biomass, long streamBase, int growthRatePercent) {
+        return grow(biomass, biomass.length, 0, streamBase, growthRatePercent);
+    }
+
+    // Растит count клеток подряд: biomass[i] — биомасса клетки firstCell + i.
+    // Так хранилище вне кучи прогоняет через ядро свою память блоками
+    double grow(double[] biomass, int count, int firstCell, long streamBase, int growthRatePercent);
+
+    // Порог для старших 32 бит случайного числа: рост с вероятностью percent / 100
+    static long threshold(int growthRatePercent) {
+        return ((1L << 32) * Math.clamp(growthRatePercent, 0, 100)) / 100;
+    }
+
+    // Vector API доступен только с --add-modules jdk.incubator.vector
+    static PlantGrowthKernel best() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            return new VectorPlantGrowthKernel();
+        }
+        return SCALAR;
+    }
+}
@@ -0,0 +1,130 @@
+package island;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Struct-of-arrays store for the mutable state of living animals: satiety and the
+// alive flag, one slot per animal. Columns are split into fixed-size pages so that
+// growing the store never moves data that other threads may be writing to.
+// Released slots go to a free list picked by the calling thread, so births and
+// deaths on different workers do not queue on one lock.
+public class Population {
+    private static final int PAGE_BITS = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final int STRIPES = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) * 2;
+
+    private volatile double[][] satiety = new double[0][];
+    private volatile boolean[][] alive = new boolean[0][];
+
+    // Слоты, ещё ни разу не выданные, берутся отсюда; страницы добавляются под growLock
+    private final AtomicInteger highWater = new AtomicInteger();
+    private final Lock growLock = new ReentrantLock();
+    private final FreeList[] freeLists = new FreeList[STRIPES];
+
+    // ReentrantLock, а не synchronized: виртуальные потоки не закрепляются на носителе
+    private static final class FreeList {
+        final Lock lock = new ReentrantLock();
+        int[] slots = new int[64];
+        int count;
+    }
+
+    public Population() {
+        for (int i = 0; i < freeLists.length; i++) {
+            freeLists[i] = new FreeList();
+        }
+    }
+
+    public int allocate(double initialSatiety) {
+        int slot = reuse();
+        if (slot < 0) {
+            slot = highWater.getAndIncrement();
+            ensureCapacity(slot);
+        }
+        int page = slot >>> PAGE_BITS;
+        int offset = slot & PAGE_MASK;
+        satiety[page][offset] = initialSatiety;
+        alive[page][offset] = true;
+        return slot;
+    }
+
+    // Сначала свой список потока, затем чужие — только если они не заняты
+    private int reuse() {
+        int home = stripe();
+        for (int i = 0; i < STRIPES; i++) {
+            FreeList list = freeLists[(home + i) & (STRIPES - 1)];
+            if (i == 0) {
+                list.lock.lock();
+            } else if (!list.lock.tryLock()) {
+                continue;
+            }
+            try {
+                if (list.count > 0) {
+                    return list.slots[--list.count];
+                }
+            } finally {
+                list.lock.unlock();
+            }
+        }
+        return -1;
+    }
+
+    // Единственный вызов освобождает слот: это гарантирует CAS слота в Animal
+    public void release(int slot) {
+        int page = slot >>> PAGE_BITS;
+        int offset = slot & PAGE_MASK;
+        alive[page][offset] = false;
+        satiety[page][offset] = 0;
+
+        FreeList list = freeLists[stripe()];
+        list.lock.lock();
+        try {
+            if (list.count == list.slots.length) {
+                list.slots = Arrays.copyOf(list.slots, list.count * 2);
+            }
+            list.slots[list.count++] = slot;
+        } finally {
+            list.lock.unlock();
+        }
+    }
+
+    private static int stripe() {
+        long id = Thread.currentThread().threadId();
+        return (int) (id ^ (id >>> 16)) & (STRIPES - 1);
+    }
+
+    private void ensureCapacity(int slot) {
+        if (slot < capacity()) return;
+        growLock.lock();
+        try {
+            while (slot >= capacity()) {
+                addPage();
+            }
+        } finally {
+            growLock.unlock();
+        }
+    }
+
+    private void addPage() {
+        int pages = satiety.length;
+        double[][] newSatiety = Arrays.copyOf(satiety, pages + 1);
+        boolean[][] newAlive = Arrays.copyOf(alive, pages + 1);
+        newSatiety[pages] = new double[PAGE_SIZE];
+        newAlive[pages] = new boolean[PAGE_SIZE];
+        alive = newAlive;
+        satiety = newSatiety;
+    }
+
+    public double satiety(int slot) { return satiety[slot >>> PAGE_BITS][slot & PAGE_MASK]; }
+    public void setSatiety(int slot, double value) { satiety[slot >>> PAGE_BITS][slot & PAGE_MASK] = value; }
+    public boolean isAlive(int slot) { return alive[slot >>> PAGE_BITS][slot & PAGE_MASK]; }
+
+    public int capacity() { return satiety.length * PAGE_SIZE; }
+
+    // satiety + alive flag per slot
+    public long footprintBytes() {
+        return (long) capacity() * (Double.BYTES + 1);
+    }
+}
@@ -0,0 +1,24 @@
+package island;
+
+import java.util.random.RandomGenerator;
+
+public abstract class Predator extends Animal {
+    @Override
+    public void eat(RandomGenerator random) {
+        Animal prey = choosePrey(location, random);
+        if (prey != null && prey.killedBy(this)) {
+            eatPrey(prey);
+        }
+    }
+
+    @Override
+    protected Animal choosePrey(Location location, RandomGenerator random) {
+        return hunt(location, random);
+    }
+
+    @Override
+    protected int offspringCount(long mates, RandomGenerator random) {
+        if (getSatiety() < foodNeeded() * 0.7 || mates < 2) return 0;
+        return random.nextInt(3) + 1;
+    }
+}
@@ -0,0 +1,134 @@
+package island;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Two-phase tick whose phases are scheduled by population instead of area. At the
+// start of a tick a summed-area table of animal counts is built; each phase then
+// splits the island into quadrants recursively on a ForkJoinPool until a region's
+// weight drops below the threshold, so dense clusters end up in many small tasks
+// that idle workers can steal, and empty stretches in a few large ones. Cells are
+// still owned by exactly one task per phase, so results match TWO_PHASE exactly.
+public class QuadtreeTickEngine extends TwoPhaseTickEngine {
+    private final Island island;
+    private final ForkJoinPool pool;
+    private final SimulationMetrics metrics;
+    // Пул не считает выполненные задачи и не помнит пиковую очередь — считаем сами
+    private final LongAdder regionsStarted = new LongAdder();
+    private final LongAdder regionsCompleted = new LongAdder();
+    private final AtomicInteger peakQueuedRegions = new AtomicInteger();
+    private final int splitThreshold;
+    // population[(x) * (height + 1) + y]: животные в прямоугольнике [0, x) x [0, y)
+    private final long[] population;
+
+    public QuadtreeTickEngine(Island island, ForkJoinPool pool, int splitThreshold, SimulationMetrics metrics) {
+        super(island, null, pool.getParallelism(), metrics);
+        this.island = island;
+        this.pool = pool;
+        this.metrics = metrics;
+        this.splitThreshold = splitThreshold;
+        this.population = new long[Math.multiplyExact(island.getWidth() + 1, island.getHeight() + 1)];
+    }
+
+    @Override
+    public void tick(long tick) {
+        long start = System.nanoTime();
+        countPopulation();
+        metrics.record(TickPhase.SCHEDULE, System.nanoTime() - start);
+        super.tick(tick);
+    }
+
+    private void countPopulation() {
+        int width = island.getWidth();
+        int height = island.getHeight();
+        int stride = height + 1;
+        for (int x = 0; x < width; x++) {
+            long column = 0;
+            for (int y = 0; y < height; y++) {
+                Location location = island.peekLocation(island.cellIndex(x, y));
+                column += location == null ? 0 : location.getAnimalCount();
+                population[(x + 1) * stride + y + 1] = population[x * stride + y + 1] + column;
+            }
+        }
+    }
+
+    private long populationOf(int x0, int y0, int x1, int y1) {
+        int stride = island.getHeight() + 1;
+        return population[x1 * stride + y1] - population[x0 * stride + y1]
+                - population[x1 * stride + y0] + population[x0 * stride + y0];
+    }
+
+    // Задача планировщика — одна область; очередь и занятые потоки берутся у пула
+    SimulationMetrics.Scheduler scheduler() {
+        return new SimulationMetrics.Scheduler() {
+            @Override public long tasksSubmitted() { return regionsStarted.sum(); }
+            @Override public long tasksCompleted() { return regionsCompleted.sum(); }
+            @Override public int activeThreads() { return pool.getActiveThreadCount(); }
+            @Override public int queueDepth() { return queuedRegions(); }
+            @Override public int peakQueueDepth() { return peakQueuedRegions.get(); }
+        };
+    }
+
+    private int queuedRegions() {
+        return (int) Math.min(Integer.MAX_VALUE, pool.getQueuedTaskCount() + pool.getQueuedSubmissionCount());
+    }
+
+    @Override
+    protected void runPhase(CellRangeTask task) {
+        pool.invoke(new Region(task, 0, 0, island.getWidth(), island.getHeight()));
+    }
+
+    // Задачи живут только внутри одного хода и никогда не сериализуются
+    @SuppressWarnings("serial")
+    private final class Region extends RecursiveAction {
+        private final CellRangeTask task;
+        private final int x0, y0, x1, y1;
+
+        Region(CellRangeTask task, int x0, int y0, int x1, int y1) {
+            this.task = task;
+            this.x0 = x0;
+            this.y0 = y0;
+            this.x1 = x1;
+            this.y1 = y1;
+        }
+
+        @Override
+        protected void compute() {
+            regionsStarted.increment();
+            peakQueuedRegions.accumulateAndGet(queuedRegions(), Math::max);
+            try {
+                split();
+            } finally {
+                regionsCompleted.increment();
+            }
+        }
+
+        private void split() {
+            int w = x1 - x0;
+            int h = y1 - y0;
+            long cells = (long) w * h;
+            long weight = populationOf(x0, y0, x1, y1) + cells / SimulationSettings.QUADTREE_CELLS_PER_ANIMAL;
+            if (weight <= splitThreshold || cells == 1) {
+                // Столбец участка — непрерывный диапазон индексов клеток
+                for (int x = x0; x < x1; x++) {
+                    task.run(island.cellIndex(x, y0), island.cellIndex(x, y1 - 1) + 1);
+                }
+                return;
+            }
+
+            // Узкие области делятся только вдоль длинной стороны
+            int mx = w > 1 ? x0 + w / 2 : x1;
+            int my = h > 1 ? y0 + h / 2 : y1;
+            if (mx == x1) {
+                invokeAll(new Region(task, x0, y0, x1, my), new Region(task, x0, my, x1, y1));
+            } else if (my == y1) {
+                invokeAll(new Region(task, x0, y0, mx, y1), new Region(task, mx, y0, x1, y1));
+            } else {
+                invokeAll(new Region(task, x0, y0, mx, my), new Region(task, mx, y0, x1, my),
+                        new Region(task, x0, my, mx, y1), new Region(task, mx, my, x1, y1));
+            }
+        }
+    }
+}
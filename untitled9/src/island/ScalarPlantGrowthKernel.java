@@ -0,0 +1,30 @@
+package island;
+
+// Запасной вариант без Vector API: случайные числа считаются блоком в отдельный
+// массив, затем биомасса обновляется без ветвлений. Массив блока свой у каждого
+// вызова: SCALAR общий для всех островов JVM
+final class ScalarPlantGrowthKernel implements PlantGrowthKernel {
+    private static final int BLOCK = 256;
+
+    @Override
+    public double grow(double[] biomass, int count, int firstCell, long streamBase, int growthRatePercent) {
+        long[] draws = new long[BLOCK];
+        long threshold = PlantGrowthKernel.threshold(growthRatePercent);
+        double grown = 0;
+        for (int start = 0; start < count; start += BLOCK) {
+            int end = Math.min(start + BLOCK, count);
+            for (int cell = start; cell < end; cell++) {
+                draws[cell - start] = CellRandom.firstLong(streamBase, firstCell + cell) >>> 32;
+            }
+            for (int cell = start; cell < end; cell++) {
+                // 1, если число меньше порога: знаковый бит разности
+                long grows = (draws[cell - start] - threshold) >>> 63;
+                double before = biomass[cell];
+                double after = Math.min(before + Plant.WEIGHT * grows, Plant.MAX_BIOMASS_PER_CELL);
+                biomass[cell] = after;
+                grown += after - before;
+            }
+        }
+        return grown;
+    }
+}
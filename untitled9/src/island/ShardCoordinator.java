@@ -0,0 +1,124 @@
+package island;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// Sharded run: the island is split into horizontal bands of rows, each stepped by
+// its own ShardWorker JVM. Neighbouring bands exchange migrants directly; the
+// coordinator only hands out the layout and sums the per-tick statistics.
+// --shards=4 --width=1000 --height=1000 --ticks=100 --seed=42 --threads=2
+// --transport=tcp|unix; --spawn=false waits for workers started by hand
+public class ShardCoordinator {
+    public static void main(String[] args) throws IOException, InterruptedException {
+        CommandLineOptions options = CommandLineOptions.parse(args);
+        int shards = options.getInt("shards", 2);
+        int width = options.getInt("width", 100);
+        int height = options.getInt("height", 20);
+        int ticks = options.getInt("ticks", 100);
+        long seed = options.getLong("seed", 42);
+        int threads = options.getInt("threads", 1);
+        boolean spawn = options.getBoolean("spawn", true);
+        if (shards < 1 || shards > height) {
+            throw new IllegalArgumentException("Need between 1 and " + height + " shards");
+        }
+
+        SocketAddress address = "unix".equals(options.get("transport"))
+                ? UnixDomainSocketAddress.of(Files.createTempDirectory("island-shards").resolve("coordinator.sock"))
+                : new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+        List<Process> workers = new ArrayList<>();
+        try (ServerSocketChannel server = ShardProtocol.listen(address)) {
+            String advertised = ShardProtocol.formatAddress(server.getLocalAddress());
+            System.out.printf("Coordinator at %s: island %dx%d, %d shards, %d ticks%n",
+                    advertised, width, height, shards, ticks);
+            if (spawn) {
+                for (int shard = 0; shard < shards; shard++) {
+                    workers.add(spawnWorker(advertised, shard));
+                }
+            }
+
+            SocketChannel[] channels = new SocketChannel[shards];
+            String[] peerAddresses = new String[shards];
+            for (int i = 0; i < shards; i++) {
+                SocketChannel channel = server.accept();
+                ByteBuffer hello = ShardProtocol.read(channel, ShardProtocol.HELLO);
+                int shard = hello.getInt();
+                channels[shard] = channel;
+                peerAddresses[shard] = ShardProtocol.getString(hello);
+            }
+
+            for (int shard = 0; shard < shards; shard++) {
+                int bandStart = (int) ((long) height * shard / shards);
+                int bandEnd = (int) ((long) height * (shard + 1) / shards);
+                String up = shard > 0 ? peerAddresses[shard - 1] : "";
+                ByteBuffer config = ShardProtocol.allocate(5 * Integer.BYTES + Long.BYTES
+                        + ShardProtocol.stringBytes(up) + 1);
+                config.putInt(width).putInt(bandStart).putInt(bandEnd - bandStart)
+                        .putLong(seed).putInt(ticks).putInt(threads);
+                ShardProtocol.putString(config, up);
+                config.put((byte) (shard < shards - 1 ? 1 : 0));
+                ShardProtocol.write(channels[shard], ShardProtocol.CONFIG, config);
+            }
+
+            long start = System.nanoTime();
+            long[] animals = new long[Species.COUNT];
+            double plants = 0;
+            for (int tick = 0; tick < ticks; tick++) {
+                animals = new long[Species.COUNT];
+                plants = 0;
+                // Полосы шлют итог хода сразу после обмена гало; ждём все
+                for (SocketChannel channel : channels) {
+                    ByteBuffer stats = ShardProtocol.read(channel, ShardProtocol.STATS);
+                    stats.getLong();
+                    for (int id = 0; id < Species.COUNT; id++) {
+                        animals[id] += stats.getLong();
+                    }
+                    plants += stats.getDouble();
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            long total = 0;
+            for (long count : animals) {
+                total += count;
+            }
+            System.out.printf("%d ticks in %.2f s (%.1f ticks/s, %.1f M cells/s)%n",
+                    ticks, seconds, ticks / seconds, (double) width * height * ticks / seconds / 1e6);
+            System.out.printf("Total plants: %d | Total animals: %d%n", (long) (plants / Plant.WEIGHT), total);
+            for (Species species : Species.values()) {
+                if (animals[species.id()] > 0) {
+                    System.out.printf("%-12s: %d%n", species.getType().getSimpleName(), animals[species.id()]);
+                }
+            }
+            for (SocketChannel channel : channels) {
+                channel.close();
+            }
+        } finally {
+            for (Process worker : workers) {
+                worker.waitFor();
+            }
+            if (address instanceof UnixDomainSocketAddress unix) {
+                Files.deleteIfExists(unix.getPath());
+                Files.deleteIfExists(unix.getPath().getParent());
+            }
+        }
+    }
+
+    // Тот же java и classpath, что у координатора
+    private static Process spawnWorker(String coordinator, int shard) throws IOException {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        return new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                "island.ShardWorker", "--coordinator=" + coordinator, "--shard=" + shard)
+                .inheritIO()
+                .start();
+    }
+}
@@ -0,0 +1,129 @@
+package island;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Framing and addressing shared by ShardCoordinator and ShardWorker.
+// Every message is [int length][byte type][payload], little-endian, over a blocking
+// SocketChannel. Addresses are written as "tcp:127.0.0.1:port" or "unix:/path".
+final class ShardProtocol {
+    static final byte HELLO = 1;   // shard, адрес для соседей
+    static final byte CONFIG = 2;  // геометрия полосы, seed, число ходов, адреса соседей
+    static final byte STATS = 3;   // ход, животные по видам, биомасса
+    static final byte MIGRANTS = 4;
+    static final byte REJECTS = 5;
+
+    // x, глобальный y, вид, сытость
+    static final int MIGRANT_BYTES = 2 * Integer.BYTES + 1 + Double.BYTES;
+
+    private ShardProtocol() {}
+
+    static ByteBuffer allocate(int payloadBytes) {
+        return ByteBuffer.allocate(payloadBytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    static void write(SocketChannel channel, byte type, ByteBuffer payload) throws IOException {
+        payload.flip();
+        ByteBuffer header = allocate(Integer.BYTES + 1);
+        header.putInt(payload.remaining() + 1).put(type).flip();
+        ByteBuffer[] frame = {header, payload};
+        while (header.hasRemaining() || payload.hasRemaining()) {
+            channel.write(frame);
+        }
+    }
+
+    static ByteBuffer read(SocketChannel channel, byte expectedType) throws IOException {
+        ByteBuffer length = allocate(Integer.BYTES);
+        readFully(channel, length);
+        ByteBuffer frame = allocate(length.flip().getInt());
+        readFully(channel, frame);
+        frame.flip();
+        byte type = frame.get();
+        if (type != expectedType) {
+            throw new IOException("Expected message " + expectedType + ", got " + type);
+        }
+        return frame;
+    }
+
+    private static void readFully(SocketChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Shard connection closed");
+            }
+        }
+    }
+
+    static ServerSocketChannel listen(SocketAddress address) throws IOException {
+        if (address instanceof UnixDomainSocketAddress unix) {
+            Files.deleteIfExists(unix.getPath()); // Файл от прошлого запуска
+            return ServerSocketChannel.open(StandardProtocolFamily.UNIX).bind(address);
+        }
+        return ServerSocketChannel.open().bind(address);
+    }
+
+    static SocketChannel connect(SocketAddress address) throws IOException {
+        SocketChannel channel = address instanceof UnixDomainSocketAddress
+                ? SocketChannel.open(StandardProtocolFamily.UNIX)
+                : SocketChannel.open();
+        channel.connect(address);
+        if (!(address instanceof UnixDomainSocketAddress)) {
+            channel.socket().setTcpNoDelay(true); // Кадры обмена мелкие и ждут ответа
+        }
+        return channel;
+    }
+
+    // Локальный адрес того же вида, что и адрес координатора; порт TCP выбирает ОС
+    static SocketAddress localAddress(SocketAddress coordinator, int shard) {
+        if (coordinator instanceof UnixDomainSocketAddress unix) {
+            return UnixDomainSocketAddress.of(unix.getPath().resolveSibling("shard-" + shard + ".sock"));
+        }
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+    }
+
+    static SocketAddress parseAddress(String value) {
+        if (value.startsWith("unix:")) {
+            return UnixDomainSocketAddress.of(Path.of(value.substring("unix:".length())));
+        }
+        if (value.startsWith("tcp:")) {
+            int separator = value.lastIndexOf(':');
+            return new InetSocketAddress(value.substring("tcp:".length(), separator),
+                    Integer.parseInt(value.substring(separator + 1)));
+        }
+        throw new IllegalArgumentException("Unknown shard address: " + value);
+    }
+
+    static String formatAddress(SocketAddress address) {
+        if (address instanceof UnixDomainSocketAddress unix) {
+            return "unix:" + unix.getPath();
+        }
+        InetSocketAddress inet = (InetSocketAddress) address;
+        return "tcp:" + inet.getAddress().getHostAddress() + ":" + inet.getPort();
+    }
+
+    static void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static int stringBytes(String value) {
+        return Integer.BYTES + value.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
@@ -0,0 +1,266 @@
+package island;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+// One horizontal band of a sharded island, run in its own JVM by ShardCoordinator:
+// --coordinator=tcp:127.0.0.1:port --shard=0
+//
+// The band is a local Island with one halo row towards every neighbouring band.
+// Ticks run in TWO_PHASE mode, where movement is applied last, so halo cells only
+// ever hold animals that crossed the border during the tick. After each tick those
+// migrants are sent to the owning shard; whoever does not fit there is sent back
+// and returns to the border cell it came from. Animals eat and breed only in their
+// own cell, so no other neighbour state is needed.
+public class ShardWorker {
+    private final int shard;
+    private final int width;
+    private final int bandStart;
+    private final int bandRows;
+    private final int haloTop;
+    private final int localHeight;
+    private final Island island;
+    private final IslandSimulation simulation;
+    private SocketChannel up;
+    private SocketChannel down;
+    private long lostMigrants;
+
+    private ShardWorker(int shard, int width, int bandStart, int bandRows, boolean hasUp, boolean hasDown,
+                        long seed, int threads) {
+        this.shard = shard;
+        this.width = width;
+        this.bandStart = bandStart;
+        this.bandRows = bandRows;
+        this.haloTop = hasUp ? 1 : 0;
+        this.localHeight = bandRows + haloTop + (hasDown ? 1 : 0);
+        // Свой seed у каждой полосы, иначе одинаковые по форме полосы повторяли бы друг друга
+        this.island = new Island(width, localHeight, SimulationSettings.INITIAL_ANIMAL_SPAWN_CHANCE,
+                seed + shard * 0x9e3779b97f4a7c15L);
+        this.simulation = new IslandSimulation(island, TickMode.TWO_PHASE, threads);
+        if (hasUp) clearRow(0);
+        if (hasDown) clearRow(localHeight - 1);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int shard = -1;
+        SocketAddress coordinatorAddress = null;
+        for (String arg : args) {
+            if (arg.startsWith("--shard=")) shard = Integer.parseInt(arg.substring("--shard=".length()));
+            if (arg.startsWith("--coordinator=")) {
+                coordinatorAddress = ShardProtocol.parseAddress(arg.substring("--coordinator=".length()));
+            }
+        }
+        if (shard < 0 || coordinatorAddress == null) {
+            throw new IllegalArgumentException("Usage: ShardWorker --coordinator=<address> --shard=<index>");
+        }
+
+        SocketAddress listenAddress = ShardProtocol.localAddress(coordinatorAddress, shard);
+        try (ServerSocketChannel server = ShardProtocol.listen(listenAddress);
+             SocketChannel coordinator = ShardProtocol.connect(coordinatorAddress)) {
+            String advertised = ShardProtocol.formatAddress(server.getLocalAddress());
+            ByteBuffer hello = ShardProtocol.allocate(Integer.BYTES + ShardProtocol.stringBytes(advertised));
+            hello.putInt(shard);
+            ShardProtocol.putString(hello, advertised);
+            ShardProtocol.write(coordinator, ShardProtocol.HELLO, hello);
+
+            ByteBuffer config = ShardProtocol.read(coordinator, ShardProtocol.CONFIG);
+            int width = config.getInt();
+            int bandStart = config.getInt();
+            int bandRows = config.getInt();
+            long seed = config.getLong();
+            int ticks = config.getInt();
+            int threads = config.getInt();
+            String upAddress = ShardProtocol.getString(config);
+            boolean hasDown = config.get() != 0;
+
+            ShardWorker worker = new ShardWorker(shard, width, bandStart, bandRows,
+                    !upAddress.isEmpty(), hasDown, seed, threads);
+            try {
+                // Соединяемся с верхним соседом, затем принимаем нижнего: цепочка без взаимной блокировки
+                if (!upAddress.isEmpty()) {
+                    worker.up = ShardProtocol.connect(ShardProtocol.parseAddress(upAddress));
+                }
+                if (hasDown) {
+                    worker.down = server.accept();
+                }
+                worker.run(ticks, coordinator);
+            } finally {
+                worker.close();
+            }
+        } finally {
+            if (listenAddress instanceof UnixDomainSocketAddress unix) {
+                Files.deleteIfExists(unix.getPath());
+            }
+        }
+    }
+
+    private void run(int ticks, SocketChannel coordinator) throws IOException {
+        for (int i = 0; i < ticks; i++) {
+            simulation.runTicks(1);
+            exchangeHalo();
+            sendStatistics(coordinator);
+        }
+        if (lostMigrants > 0) {
+            System.err.printf("Shard %d: %d returning migrants found no room%n", shard, lostMigrants);
+        }
+    }
+
+    // Чётные полосы сначала обмениваются с нижним соседом, нечётные — с верхним:
+    // все пары (2k, 2k+1) идут одновременно, затем все пары (2k+1, 2k+2), и задержка
+    // обмена не растёт с числом полос. Отправка идёт в отдельном потоке: оба соседа
+    // пишут одновременно, и крупный кадр не должен упереться в полный буфер сокета
+    private void exchangeHalo() throws IOException {
+        ByteBuffer toUp = up == null ? null : emigrate(0);
+        ByteBuffer toDown = down == null ? null : emigrate(localHeight - 1);
+        if (shard % 2 == 0) {
+            exchangeWith(down, toDown, haloTop + bandRows - 1);
+            exchangeWith(up, toUp, haloTop);
+        } else {
+            exchangeWith(up, toUp, haloTop);
+            exchangeWith(down, toDown, haloTop + bandRows - 1);
+        }
+    }
+
+    // Переселенцы одному соседу и ответные отказы; borderY — откуда ушли отправленные
+    private void exchangeWith(SocketChannel peer, ByteBuffer migrants, int borderY) throws IOException {
+        ByteBuffer rejects = exchange(peer, ShardProtocol.MIGRANTS, migrants, this::immigrate);
+        exchange(peer, ShardProtocol.REJECTS, rejects, returned -> returnHome(returned, borderY));
+    }
+
+    private interface FrameHandler {
+        ByteBuffer handle(ByteBuffer frame) throws IOException;
+    }
+
+    // Отправляет кадр соседу и обрабатывает встречный; возвращает ответ обработчика
+    private static ByteBuffer exchange(SocketChannel peer, byte type, ByteBuffer outgoing,
+                                       FrameHandler handler) throws IOException {
+        if (peer == null) return null;
+        Thread sender = Thread.startVirtualThread(() -> {
+            try {
+                ShardProtocol.write(peer, type, outgoing);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        ByteBuffer reply = handler.handle(ShardProtocol.read(peer, type));
+        try {
+            sender.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted during halo exchange", e);
+        }
+        return reply;
+    }
+
+    // Забирает всех из строки гало и упаковывает их для соседа
+    private ByteBuffer emigrate(int localY) {
+        List<Animal> leaving = new ArrayList<>();
+        for (int x = 0; x < width; x++) {
+            Location halo = island.peekLocation(island.cellIndex(x, localY));
+            if (halo != null && halo.getAnimalCount() > 0) {
+                leaving.addAll(halo.getAnimals());
+            }
+        }
+        ByteBuffer payload = ShardProtocol.allocate(Integer.BYTES + leaving.size() * ShardProtocol.MIGRANT_BYTES);
+        payload.putInt(leaving.size());
+        for (Animal animal : leaving) {
+            Location halo = animal.location;
+            double satiety = animal.getSatiety();
+            if (animal.emigrate()) {
+                payload.putInt(halo.getX())
+                        .putInt(bandStart + localY - haloTop)
+                        .put((byte) animal.getSpeciesId())
+                        .putDouble(satiety);
+            }
+        }
+        payload.putInt(0, (payload.position() - Integer.BYTES) / ShardProtocol.MIGRANT_BYTES);
+        return payload;
+    }
+
+    // Принимает переселенцев в свои клетки; не поместившиеся возвращаются отправителю
+    private ByteBuffer immigrate(ByteBuffer migrants) {
+        int count = migrants.getInt();
+        ByteBuffer rejects = ShardProtocol.allocate(Integer.BYTES + count * ShardProtocol.MIGRANT_BYTES);
+        rejects.putInt(0);
+        int rejected = 0;
+        for (int i = 0; i < count; i++) {
+            int x = migrants.getInt();
+            int globalY = migrants.getInt();
+            byte species = migrants.get();
+            double satiety = migrants.getDouble();
+            if (!place(x, globalY - bandStart + haloTop, species, satiety)) {
+                rejects.putInt(x).putInt(globalY).put(species).putDouble(satiety);
+                rejected++;
+            }
+        }
+        rejects.putInt(0, rejected);
+        return rejects;
+    }
+
+    // Отказ соседа: животное возвращается в пограничную клетку, из которой ушло
+    private ByteBuffer returnHome(ByteBuffer rejects, int borderY) {
+        int count = rejects.getInt();
+        for (int i = 0; i < count; i++) {
+            int x = rejects.getInt();
+            rejects.getInt();
+            byte species = rejects.get();
+            double satiety = rejects.getDouble();
+            if (!place(x, borderY, species, satiety)) {
+                lostMigrants++; // Место заняли, пока животное было в пути
+            }
+        }
+        return null;
+    }
+
+    private boolean place(int x, int localY, int speciesId, double satiety) {
+        Animal animal = island.getAnimalPool().obtain(Species.byId(speciesId));
+        if (island.getLocation(x, localY).addAnimal(animal)) {
+            animal.setSatiety(satiety);
+            return true;
+        }
+        island.getAnimalPool().retire(animal);
+        return false;
+    }
+
+    // Начальное заселение не знает о гало: животных в этих строках убираем
+    private void clearRow(int localY) {
+        for (int x = 0; x < width; x++) {
+            Location halo = island.peekLocation(island.cellIndex(x, localY));
+            if (halo == null) continue;
+            for (Animal animal : halo.getAnimals()) {
+                animal.emigrate();
+            }
+        }
+    }
+
+    private void sendStatistics(SocketChannel coordinator) throws IOException {
+        IslandCensus census = island.getCensus();
+        double haloBiomass = 0;
+        for (int x = 0; x < width; x++) {
+            if (haloTop > 0) haloBiomass += island.getPlantBiomass(island.cellIndex(x, 0));
+            if (down != null) haloBiomass += island.getPlantBiomass(island.cellIndex(x, localHeight - 1));
+        }
+        ByteBuffer stats = ShardProtocol.allocate(Long.BYTES + Species.COUNT * Long.BYTES + Double.BYTES);
+        stats.putLong(island.getTick());
+        for (int id = 0; id < Species.COUNT; id++) {
+            stats.putLong(census.animalCount(id));
+        }
+        stats.putDouble(census.plantBiomass() - haloBiomass);
+        ShardProtocol.write(coordinator, ShardProtocol.STATS, stats);
+    }
+
+    private void close() throws IOException {
+        simulation.stop();
+        island.close();
+        if (up != null) up.close();
+        if (down != null) down.close();
+    }
+}
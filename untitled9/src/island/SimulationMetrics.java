@@ -0,0 +1,138 @@
+package island;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// What the simulation reports about itself: a latency histogram per tick phase,
+// the island's Location lock counters and the task and queue figures of the
+// scheduler the tick mode actually runs on (the animal thread pool, the quadtree
+// ForkJoinPool or per-phase virtual threads). Readable from code through the
+// accessors, or over JMX once register() has been called (island:type=Simulation
+// and island:type=TickPhase beans).
+public final class SimulationMetrics implements SimulationMetricsMXBean {
+    private final Map<TickPhase, LatencyHistogram> latencies = new EnumMap<>(TickPhase.class);
+    private final LockCounters locks;
+    private final AtomicInteger peakQueueDepth = new AtomicInteger();
+    private final List<ObjectName> registered = new ArrayList<>();
+    private Scheduler scheduler;
+
+    // Задачи и очередь планировщика, на котором движок выполняет ход
+    interface Scheduler {
+        long tasksSubmitted();
+        long tasksCompleted();
+        int activeThreads();
+        int queueDepth();
+        int peakQueueDepth();
+    }
+
+    public SimulationMetrics(Island island) {
+        this.locks = island.getLockCounters();
+        for (TickPhase phase : TickPhase.values()) {
+            latencies.put(phase, new LatencyHistogram());
+        }
+    }
+
+    // Очередь задач пула, которая помнит наибольшую глубину
+    BlockingQueue<Runnable> taskQueue() {
+        return new LinkedBlockingQueue<>() {
+            @Override
+            public boolean offer(Runnable task) {
+                boolean added = super.offer(task);
+                if (added) {
+                    peakQueueDepth.accumulateAndGet(size(), Math::max);
+                }
+                return added;
+            }
+        };
+    }
+
+    // Пул с очередью из taskQueue(): всё, кроме пиковой глубины, считает сам пул
+    void watch(ExecutorService executor) {
+        if (!(executor instanceof ThreadPoolExecutor pool)) {
+            this.scheduler = null;
+            return;
+        }
+        watch(new Scheduler() {
+            @Override public long tasksSubmitted() { return pool.getTaskCount(); }
+            @Override public long tasksCompleted() { return pool.getCompletedTaskCount(); }
+            @Override public int activeThreads() { return pool.getActiveCount(); }
+            @Override public int queueDepth() { return pool.getQueue().size(); }
+            @Override public int peakQueueDepth() { return peakQueueDepth.get(); }
+        });
+    }
+
+    void watch(Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    void record(TickPhase phase, long nanos) {
+        latencies.get(phase).record(nanos);
+    }
+
+    public LatencyHistogram latency(TickPhase phase) {
+        return latencies.get(phase);
+    }
+
+    public LockCounters locks() {
+        return locks;
+    }
+
+    public void register(String name) throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        String quoted = ObjectName.quote(name);
+        ObjectName simulation = new ObjectName("island:type=Simulation,name=" + quoted);
+        server.registerMBean(this, simulation);
+        registered.add(simulation);
+        for (TickPhase phase : TickPhase.values()) {
+            ObjectName phaseName = new ObjectName("island:type=TickPhase,simulation=" + quoted + ",name=" + phase);
+            server.registerMBean(latencies.get(phase), phaseName);
+            registered.add(phaseName);
+        }
+    }
+
+    public void unregister() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName name : registered) {
+            try {
+                server.unregisterMBean(name);
+            } catch (JMException e) {
+                System.err.println("Could not unregister " + name + ": " + e.getMessage());
+            }
+        }
+        registered.clear();
+    }
+
+    public void printReport() {
+        System.out.println("phase           count      p50 us      p99 us      max us");
+        for (TickPhase phase : TickPhase.values()) {
+            LatencyHistogram histogram = latencies.get(phase);
+            if (histogram.getCount() == 0) continue;
+            System.out.printf("%-14s %6d %11.1f %11.1f %11.1f%n", phase, histogram.getCount(),
+                    histogram.getP50Nanos() / 1e3, histogram.getP99Nanos() / 1e3, histogram.getMaxNanos() / 1e3);
+        }
+        System.out.printf("Location locks: %d acquired, %d contended, %d optimistic retries%n",
+                locks.acquisitions(), locks.contendedWaits(), locks.optimisticRetries());
+        System.out.printf("Executor: %d tasks, peak queue %d%n", getExecutorTasksSubmitted(), getExecutorPeakQueueDepth());
+    }
+
+    @Override public long getTicks() { return latencies.get(TickPhase.TICK).getCount(); }
+    @Override public long getLockAcquisitions() { return locks.acquisitions(); }
+    @Override public long getContendedLockWaits() { return locks.contendedWaits(); }
+    @Override public long getOptimisticReadRetries() { return locks.optimisticRetries(); }
+    @Override public long getExecutorTasksSubmitted() { return scheduler == null ? 0 : scheduler.tasksSubmitted(); }
+    @Override public long getExecutorTasksCompleted() { return scheduler == null ? 0 : scheduler.tasksCompleted(); }
+    @Override public int getExecutorActiveThreads() { return scheduler == null ? 0 : scheduler.activeThreads(); }
+    @Override public int getExecutorQueueDepth() { return scheduler == null ? 0 : scheduler.queueDepth(); }
+    @Override public int getExecutorPeakQueueDepth() { return scheduler == null ? 0 : scheduler.peakQueueDepth(); }
+}
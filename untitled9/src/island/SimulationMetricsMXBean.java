@@ -0,0 +1,13 @@
+package island;
+
+public interface SimulationMetricsMXBean {
+    long getTicks();
+    long getLockAcquisitions();
+    long getContendedLockWaits();
+    long getOptimisticReadRetries();
+    long getExecutorTasksSubmitted();
+    long getExecutorTasksCompleted();
+    int getExecutorActiveThreads();
+    int getExecutorQueueDepth();
+    int getExecutorPeakQueueDepth();
+}
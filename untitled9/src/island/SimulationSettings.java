@@ -0,0 +1,26 @@
+package island;
+
+public class SimulationSettings {
+    // Количество начальных растений на одной локации
+    public static final int INITIAL_PLANTS_PER_LOCATION = 5;
+
+    // Вероятность появления животных изначально
+    public static final double INITIAL_ANIMAL_SPAWN_CHANCE = 0.3;
+
+    // Режим выполнения хода животных
+    public static final TickMode TICK_MODE = TickMode.TILED;
+
+    // Сторона участка острова для режима TILED
+    public static final int TILE_SIZE = 16;
+
+    // Сторона участка для режима VIRTUAL: виртуальные потоки дешёвые, участки мельче
+    public static final int VIRTUAL_TILE_SIZE = 4;
+
+    // Режим QUADTREE: область перестаёт делиться, когда её вес (животные плюс
+    // клетки / QUADTREE_CELLS_PER_ANIMAL) не больше порога
+    public static final int QUADTREE_SPLIT_THRESHOLD = 2048;
+    public static final int QUADTREE_CELLS_PER_ANIMAL = 64;
+
+    // Клетки острова выделяются кусками по 2^CHUNK_BITS; пустые куски освобождаются
+    public static final int CHUNK_BITS = 10;
+}
@@ -0,0 +1,60 @@
+package island;
+
+import java.util.function.Supplier;
+
+public enum Species {
+    WOLF(Wolf.class, Wolf::new),
+    BOA(Boa.class, Boa::new),
+    FOX(Fox.class, Fox::new),
+    BEAR(Bear.class, Bear::new),
+    EAGLE(Eagle.class, Eagle::new),
+    HORSE(Horse.class, Horse::new),
+    DEER(Deer.class, Deer::new),
+    RABBIT(Rabbit.class, Rabbit::new),
+    MOUSE(Mouse.class, Mouse::new),
+    GOAT(Goat.class, Goat::new),
+    SHEEP(Sheep.class, Sheep::new),
+    BOAR(Boar.class, Boar::new),
+    BUFFALO(Buffalo.class, Buffalo::new),
+    DUCK(Duck.class, Duck::new),
+    CATERPILLAR(Caterpillar.class, Caterpillar::new);
+
+    public static final int COUNT = values().length;
+
+    private static final Species[] BY_ID = values();
+    private static final ClassValue<Species> BY_CLASS = new ClassValue<>() {
+        @Override
+        protected Species computeValue(Class<?> type) {
+            for (Species species : BY_ID) {
+                if (species.type == type) {
+                    return species;
+                }
+            }
+            throw new IllegalArgumentException("Unknown species: " + type.getName());
+        }
+    };
+
+    private final Class<? extends Animal> type;
+    private final Supplier<? extends Animal> factory;
+
+    Species(Class<? extends Animal> type, Supplier<? extends Animal> factory) {
+        this.type = type;
+        this.factory = factory;
+    }
+
+    public Animal create() { return factory.get(); }
+
+    public int id() { return ordinal(); }
+    public Class<? extends Animal> getType() { return type; }
+
+    // Общий для всех особей вида дескриптор: константы читаются из SpeciesTable,
+    // поэтому животное хранит только ссылку на свой вид
+    public double weight() { return SpeciesTable.get().weight(ordinal()); }
+    public int maxPerCell() { return SpeciesTable.get().maxPerCell(ordinal()); }
+    public int maxSpeed() { return SpeciesTable.get().maxSpeed(ordinal()); }
+    public double foodNeeded() { return SpeciesTable.get().foodNeeded(ordinal()); }
+    public String symbol() { return SpeciesTable.get().symbol(ordinal()); }
+
+    public static Species byId(int id) { return BY_ID[id]; }
+    public static Species of(Class<?> type) { return BY_CLASS.get(type); }
+}
@@ -0,0 +1,129 @@
+package island;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// Immutable per-species constants and the hunting table, compiled from a data file
+// (resources/island/species.txt, or the file named by -Disland.species) into dense
+// primitive arrays indexed by species id. Catch chances form a species x species
+// matrix; each hunter also keeps its prey ids in file order, which fixes the order
+// in which it considers prey.
+public final class SpeciesTable {
+    private static final String PROPERTY = "island.species";
+    private static final SpeciesTable DEFAULT = loadDefault();
+
+    private final double[] weight = new double[Species.COUNT];
+    private final int[] maxPerCell = new int[Species.COUNT];
+    private final int[] maxSpeed = new int[Species.COUNT];
+    private final double[] foodNeeded = new double[Species.COUNT];
+    private final String[] symbol = new String[Species.COUNT];
+    // catchChance[hunter * COUNT + prey] в процентах; 0 — не охотится
+    private final byte[] catchChance = new byte[Species.COUNT * Species.COUNT];
+    private final int[][] preyOf = new int[Species.COUNT][];
+
+    private SpeciesTable() {}
+
+    public static SpeciesTable get() {
+        return DEFAULT;
+    }
+
+    private static SpeciesTable loadDefault() {
+        String override = System.getProperty(PROPERTY);
+        try {
+            if (override != null) {
+                return load(Path.of(override));
+            }
+            try (InputStream in = SpeciesTable.class.getResourceAsStream("species.txt")) {
+                if (in == null) {
+                    throw new IllegalStateException("species.txt is missing from the classpath");
+                }
+                return parse(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), "species.txt");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static SpeciesTable load(Path path) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return parse(reader, path.toString());
+        }
+    }
+
+    static SpeciesTable parse(BufferedReader reader, String source) throws IOException {
+        SpeciesTable table = new SpeciesTable();
+        List<List<Integer>> prey = new ArrayList<>();
+        for (int id = 0; id < Species.COUNT; id++) {
+            prey.add(new ArrayList<>());
+        }
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            String[] fields = line.split("\\s+");
+            try {
+                switch (fields[0]) {
+                    case "species" -> {
+                        expect(fields, 7);
+                        int id = Species.valueOf(fields[1]).id();
+                        table.weight[id] = Double.parseDouble(fields[2]);
+                        table.maxPerCell[id] = Integer.parseInt(fields[3]);
+                        table.maxSpeed[id] = Integer.parseInt(fields[4]);
+                        table.foodNeeded[id] = Double.parseDouble(fields[5]);
+                        table.symbol[id] = fields[6];
+                    }
+                    case "catch" -> {
+                        expect(fields, 4);
+                        int hunter = Species.valueOf(fields[1]).id();
+                        int target = Species.valueOf(fields[2]).id();
+                        int chance = Integer.parseInt(fields[3]);
+                        if (chance < 0 || chance > 100) {
+                            throw new IllegalArgumentException("catch chance must be 0..100");
+                        }
+                        table.catchChance[hunter * Species.COUNT + target] = (byte) chance;
+                        prey.get(hunter).add(target);
+                    }
+                    default -> throw new IllegalArgumentException("unknown record " + fields[0]);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(source + ":" + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+
+        for (Species species : Species.values()) {
+            if (table.symbol[species.id()] == null) {
+                throw new IllegalArgumentException(source + ": no species record for " + species);
+            }
+            table.preyOf[species.id()] = prey.get(species.id()).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return table;
+    }
+
+    private static void expect(String[] fields, int count) {
+        if (fields.length != count) {
+            throw new IllegalArgumentException("expected " + count + " fields, got " + fields.length);
+        }
+    }
+
+    public double weight(int speciesId) { return weight[speciesId]; }
+    public int maxPerCell(int speciesId) { return maxPerCell[speciesId]; }
+    public int maxSpeed(int speciesId) { return maxSpeed[speciesId]; }
+    public double foodNeeded(int speciesId) { return foodNeeded[speciesId]; }
+    public String symbol(int speciesId) { return symbol[speciesId]; }
+    public int catchChance(int hunterId, int preyId) { return catchChance[hunterId * Species.COUNT + preyId]; }
+
+    // Не менять: массив общий для всех охотников вида
+    int[] preyOf(int hunterId) { return preyOf[hunterId]; }
+}
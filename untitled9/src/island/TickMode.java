@@ -0,0 +1,9 @@
+package island;
+
+public enum TickMode {
+    PER_ANIMAL, // Одна задача на животное
+    TILED,      // Одна задача на прямоугольный участок острова
+    TWO_PHASE,  // Намерения по снимку хода, затем применение по клеткам без блокировок
+    VIRTUAL,    // Участок острова на виртуальном потоке, фазы хода как структурные области
+    QUADTREE    // Фазы TWO_PHASE, остров делится рекурсивно по числу животных на ForkJoinPool
+}
@@ -0,0 +1,24 @@
+package island;
+
+// Фазы хода, для которых SimulationMetrics ведёт гистограммы длительности.
+// TICK, GROWTH, ANIMALS, HOUSEKEEPING и STATISTICS есть во всех режимах; ANIMALS
+// каждый движок делит на свои фазы:
+//   PER_ANIMAL          SCHEDULE (снимок жителей), LIFE_CYCLE
+//   TILED, VIRTUAL      LIFE_CYCLE (участки), MOVE (доставка переходов)
+//   TWO_PHASE           PLAN, FEED_AND_BREED, MOVE
+//   QUADTREE            SCHEDULE (таблица населения), PLAN, FEED_AND_BREED, MOVE
+// Еда и размножение ни в одном режиме не меряются порознь: животное ест и
+// размножается за один проход по клетке, и разделение изменило бы порядок событий.
+// В LIFE_CYCLE туда же входит выбор хода.
+public enum TickPhase {
+    TICK,
+    GROWTH,
+    ANIMALS,
+    SCHEDULE,
+    PLAN,
+    LIFE_CYCLE,
+    FEED_AND_BREED,
+    MOVE,
+    HOUSEKEEPING,
+    STATISTICS
+}
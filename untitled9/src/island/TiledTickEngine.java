@@ -0,0 +1,192 @@
+package island;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+// Splits the island into rectangular tiles and runs one task per tile.
+// A move does not touch any cell during the tick: it is written to the outbox of
+// the mover's tile and the animal stays where it is. After every tile has finished,
+// moves are routed to their destination tiles and merged as one batch per cell,
+// with capacity checked once per batch; rejected movers simply never left.
+// Accepted movers are then removed from their old cells, again one batch per cell.
+public class TiledTickEngine {
+    private final Island island;
+    private final ExecutorService executor;
+    private final SimulationMetrics metrics;
+    private final int tileSize;
+    private final int tilesX;
+    private final int tilesY;
+    // outboxes.get(t) пишет только задача участка t, inboxes.get(t) читает только она же
+    private final List<List<Handoff>> outboxes;
+    private final List<List<Handoff>> inboxes;
+
+    private static final class Handoff {
+        final Animal animal;
+        final Location from;
+        final Location to;
+        boolean accepted;
+
+        Handoff(Animal animal, Location from, Location to) {
+            this.animal = animal;
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    public TiledTickEngine(Island island, ExecutorService executor, int tileSize, SimulationMetrics metrics) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("Tile size must be positive: " + tileSize);
+        }
+        this.island = island;
+        this.executor = executor;
+        this.metrics = metrics;
+        this.tileSize = tileSize;
+        this.tilesX = (island.getWidth() + tileSize - 1) / tileSize;
+        this.tilesY = (island.getHeight() + tileSize - 1) / tileSize;
+        this.outboxes = new ArrayList<>(tilesX * tilesY);
+        this.inboxes = new ArrayList<>(tilesX * tilesY);
+        for (int i = 0; i < tilesX * tilesY; i++) {
+            outboxes.add(new ArrayList<>());
+            inboxes.add(new ArrayList<>());
+        }
+    }
+
+    public void tick(long tick) {
+        island.setMoveHandler(this::move);
+        try {
+            long start = System.nanoTime();
+            runPerTile((tileX, tileY) -> runTile(tileX, tileY, tick));
+            long lived = System.nanoTime();
+            metrics.record(TickPhase.LIFE_CYCLE, lived - start);
+            routeHandoffs();
+            runPerTile(this::arrive);
+            runPerTile(this::depart);
+            metrics.record(TickPhase.MOVE, System.nanoTime() - lived);
+        } catch (RuntimeException e) {
+            discardHandoffs(); // Ход прерван: недоставленные переезды отменяются
+            throw e;
+        } finally {
+            island.setMoveHandler(MoveHandler.DIRECT);
+        }
+    }
+
+    // Задачи всех участков фазы; сбой любой из них прерывает ход
+    protected void runPerTile(TileTask task) {
+        PhaseTasks.runAll(executor, tileTasks(task));
+    }
+
+    protected List<Runnable> tileTasks(TileTask task) {
+        List<Runnable> tasks = new ArrayList<>(tilesX * tilesY);
+        for (int tx = 0; tx < tilesX; tx++) {
+            for (int ty = 0; ty < tilesY; ty++) {
+                int tileX = tx;
+                int tileY = ty;
+                tasks.add(() -> task.run(tileX, tileY));
+            }
+        }
+        return tasks;
+    }
+
+    private void runTile(int tileX, int tileY, long tick) {
+        // Снимок жителей участка: пришедшие за ход животные ходят только в следующем
+        List<Location> cells = new ArrayList<>(tileSize * tileSize);
+        List<List<Animal>> residents = new ArrayList<>(tileSize * tileSize);
+        int maxX = Math.min((tileX + 1) * tileSize, island.getWidth());
+        int maxY = Math.min((tileY + 1) * tileSize, island.getHeight());
+        for (int x = tileX * tileSize; x < maxX; x++) {
+            for (int y = tileY * tileSize; y < maxY; y++) {
+                Location location = island.peekLocation(island.cellIndex(x, y));
+                if (location != null && location.getAnimalCount() > 0) {
+                    cells.add(location);
+                    residents.add(location.getAnimals());
+                }
+            }
+        }
+
+        CellRandom random = new CellRandom();
+        for (int i = 0; i < cells.size(); i++) {
+            random.reset(island.getSeed(), CellRandom.ANIMALS, tick, cells.get(i).getIndex());
+            for (Animal animal : residents.get(i)) {
+                animal.liveCycle(random);
+            }
+        }
+    }
+
+    // Раскладываем переезды по участкам назначения; порядок не зависит от потоков
+    private void routeHandoffs() {
+        for (List<Handoff> outbox : outboxes) {
+            for (Handoff handoff : outbox) {
+                inboxes.get(tileOf(handoff.to)).add(handoff);
+            }
+        }
+    }
+
+    // Переезд записан, но животное ещё в старой клетке — отмена ничего не теряет
+    private void discardHandoffs() {
+        outboxes.forEach(List::clear);
+        inboxes.forEach(List::clear);
+    }
+
+    // Участок назначения принимает переезжающих: один пакет на клетку
+    private void arrive(int tileX, int tileY) {
+        List<Handoff> inbox = inboxes.get(tileX * tilesY + tileY);
+        if (inbox.isEmpty()) return;
+        inbox.sort(Comparator.comparingInt(handoff -> handoff.to.getIndex())); // Сортировка устойчивая
+
+        Animal[] batch = new Animal[inbox.size()];
+        boolean[] accepted = new boolean[inbox.size()];
+        for (int first = 0, last; first < inbox.size(); first = last) {
+            Location to = inbox.get(first).to;
+            for (last = first; last < inbox.size() && inbox.get(last).to == to; last++) {
+                batch[last - first] = inbox.get(last).animal;
+            }
+            if (to.addAnimals(batch, last - first, accepted) == 0) continue;
+
+            for (int i = first; i < last; i++) {
+                Handoff handoff = inbox.get(i);
+                if (accepted[i - first]) {
+                    handoff.accepted = true;
+                    island.getEvents().move(handoff.animal.getSpeciesId(), handoff.from.getIndex(), to.getIndex());
+                }
+            }
+        }
+        inbox.clear();
+    }
+
+    // Исходный участок отпускает принятых: один пакет на клетку. Переезды клетки
+    // лежат в outbox подряд и в порядке её корзин — так их обходил runTile
+    private void depart(int tileX, int tileY) {
+        List<Handoff> outbox = outboxes.get(tileX * tilesY + tileY);
+        if (outbox.isEmpty()) return;
+
+        Animal[] batch = new Animal[outbox.size()];
+        for (int first = 0, last; first < outbox.size(); first = last) {
+            Location from = outbox.get(first).from;
+            int count = 0;
+            for (last = first; last < outbox.size() && outbox.get(last).from == from; last++) {
+                Handoff handoff = outbox.get(last);
+                if (handoff.accepted) {
+                    batch[count++] = handoff.animal;
+                }
+            }
+            if (count > 0) {
+                from.removeAnimals(batch, count);
+            }
+        }
+        outbox.clear();
+    }
+
+    // Во время хода клетки не меняются: переезд только записывается
+    private void move(Animal animal, Location from, Location to) {
+        outboxes.get(tileOf(from)).add(new Handoff(animal, from, to));
+    }
+
+    private int tileOf(Location location) {
+        return (location.getX() / tileSize) * tilesY + location.getY() / tileSize;
+    }
+
+    @FunctionalInterface
+    protected interface TileTask {
+        void run(int tileX, int tileY);
+    }
+}
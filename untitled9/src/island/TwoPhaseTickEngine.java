@@ -0,0 +1,214 @@
+package island;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+// Double-buffered tick. In the plan phase every animal reads the state of tick N
+// and records an intent (move target, prey, grazing, litter size) without touching
+// any cell. The commit phases then resolve conflicts cell by cell, with each cell
+// owned by exactly one task, so no Location lock is taken on the hot path.
+//
+// Eating and breeding happen in the cell the animal occupied at tick N; movement
+// is applied last. A mover is accepted only while the destination has room for its
+// species and otherwise stays where it was.
+public class TwoPhaseTickEngine {
+    private final Island island;
+    private final ExecutorService executor;
+    private final int chunkCount;
+    private final SimulationMetrics metrics;
+
+    private CellPlan[] plans;
+    private Intent[] arrivals;
+    private int[] arrivalOffsets;
+
+    private static final class Intent {
+        final Animal animal;
+        final Location from;
+        Location moveTo;
+        Animal prey;
+        boolean graze;
+        int offspring;
+        boolean accepted;
+
+        Intent(Animal animal, Location from) {
+            this.animal = animal;
+            this.from = from;
+        }
+    }
+
+    private record CellPlan(Location location, Intent[] intents) {}
+
+    public TwoPhaseTickEngine(Island island, ExecutorService executor, int parallelism, SimulationMetrics metrics) {
+        this.island = island;
+        this.executor = executor;
+        this.metrics = metrics;
+        this.chunkCount = Math.max(1, Math.min(island.getCellCount(), parallelism * 4));
+    }
+
+    public void tick(long tick) {
+        plans = new CellPlan[island.getCellCount()];
+        try {
+            long start = System.nanoTime();
+            runPhase((from, to) -> plan(from, to, tick));
+            long planned = System.nanoTime();
+            metrics.record(TickPhase.PLAN, planned - start);
+            runPhase(this::resolve);
+            long resolved = System.nanoTime();
+            metrics.record(TickPhase.FEED_AND_BREED, resolved - planned);
+            groupMoversByDestination();
+            runPhase(this::arrive);
+            runPhase(this::depart);
+            metrics.record(TickPhase.MOVE, System.nanoTime() - resolved);
+        } finally {
+            plans = null; // Прерванный ход тоже не оставляет планов
+            arrivals = null;
+            arrivalOffsets = null;
+        }
+    }
+
+    // Фаза 1: только чтение состояния хода N
+    private void plan(int from, int to, long tick) {
+        CellRandom random = new CellRandom();
+        for (int cell = from; cell < to; cell++) {
+            Location location = island.peekLocation(cell);
+            if (location == null) {
+                cell = island.chunkEnd(cell) - 1; // Кусок не выделен — в нём никого нет
+                continue;
+            }
+            if (location.getAnimalCount() == 0) continue;
+
+            random.reset(island.getSeed(), CellRandom.ANIMALS, tick, cell);
+            List<Animal> animals = location.getAnimals();
+            Intent[] intents = new Intent[animals.size()];
+            for (int i = 0; i < intents.length; i++) {
+                Animal animal = animals.get(i);
+                Intent intent = new Intent(animal, location);
+                if (animal.isAlive()) {
+                    intent.moveTo = animal.chooseMove(random);
+                    intent.graze = animal.wantsToGraze(random);
+                    intent.prey = animal.choosePrey(location, random);
+                    intent.offspring = animal.offspringCount(location.countOf(animal.getSpeciesId()), random);
+                }
+                intents[i] = intent;
+            }
+            plans[cell] = new CellPlan(location, intents);
+        }
+    }
+
+    // Фаза 2: еда, размножение и голод внутри клетки
+    private void resolve(int from, int to) {
+        for (int cell = from; cell < to; cell++) {
+            CellPlan plan = plans[cell];
+            if (plan == null) continue;
+            Location location = plan.location();
+
+            for (Intent intent : plan.intents()) {
+                Animal animal = intent.animal;
+                if (!animal.isAlive()) continue; // Съеден раньше в этом ходу
+
+                if (intent.graze) {
+                    double eaten = location.grazePlantsOwned(animal.plantBite());
+                    if (eaten > 0) {
+                        animal.eatPlant(eaten);
+                    }
+                }
+                if (intent.prey != null && intent.prey.markDead()) {
+                    animal.eatPrey(intent.prey);
+                    location.removeAnimalOwned(intent.prey);
+                    island.getEvents().kill(animal.getSpeciesId(), intent.prey.getSpeciesId(), cell);
+                }
+
+                int room = animal.getMaxPerCell() - location.countOf(animal.getSpeciesId());
+                int births = Math.min(intent.offspring, Math.max(room, 0));
+                for (int i = 0; i < births; i++) {
+                    location.addAnimalOwned(animal.newOffspring());
+                }
+
+                if (animal.starve() && animal.markDead()) {
+                    location.removeAnimalOwned(animal);
+                }
+            }
+        }
+    }
+
+    // Раскладываем переезжающих по клеткам назначения (сортировка подсчётом)
+    private void groupMoversByDestination() {
+        int cells = plans.length;
+        int[] offsets = new int[cells + 1];
+        for (CellPlan plan : plans) {
+            if (plan == null) continue;
+            for (Intent intent : plan.intents()) {
+                if (intent.moveTo != null && intent.animal.isAlive()) {
+                    offsets[intent.moveTo.getIndex() + 1]++;
+                }
+            }
+        }
+        for (int cell = 0; cell < cells; cell++) {
+            offsets[cell + 1] += offsets[cell];
+        }
+
+        Intent[] movers = new Intent[offsets[cells]];
+        int[] cursor = Arrays.copyOf(offsets, cells);
+        for (CellPlan plan : plans) {
+            if (plan == null) continue;
+            for (Intent intent : plan.intents()) {
+                if (intent.moveTo != null && intent.animal.isAlive()) {
+                    movers[cursor[intent.moveTo.getIndex()]++] = intent;
+                }
+            }
+        }
+        arrivals = movers;
+        arrivalOffsets = offsets;
+    }
+
+    // Фаза 3: клетка назначения принимает переезжающих, пока есть место
+    private void arrive(int from, int to) {
+        for (int cell = from; cell < to; cell++) {
+            int first = arrivalOffsets[cell];
+            int last = arrivalOffsets[cell + 1];
+            if (first == last) continue;
+
+            Location location = arrivals[first].moveTo;
+            for (int i = first; i < last; i++) {
+                Intent intent = arrivals[i];
+                Animal animal = intent.animal;
+                if (location.countOf(animal.getSpeciesId()) < animal.getMaxPerCell()) {
+                    location.addAnimalOwned(animal);
+                    intent.accepted = true;
+                    island.getEvents().move(animal.getSpeciesId(), intent.from.getIndex(), cell);
+                }
+            }
+        }
+    }
+
+    // Фаза 4: исходная клетка отпускает принятых переезжающих
+    private void depart(int from, int to) {
+        for (int cell = from; cell < to; cell++) {
+            CellPlan plan = plans[cell];
+            if (plan == null) continue;
+            for (Intent intent : plan.intents()) {
+                if (intent.accepted) {
+                    plan.location().removeAnimalOwned(intent.animal);
+                }
+            }
+        }
+    }
+
+    // Разбиение острова на задачи фазы; подклассы могут делить его иначе.
+    // Сбой задачи прерывает ход: следующая фаза не строится на неполных планах
+    protected void runPhase(CellRangeTask task) {
+        int cells = island.getCellCount();
+        List<Runnable> tasks = new ArrayList<>(chunkCount);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int from = (int) ((long) cells * chunk / chunkCount);
+            int to = (int) ((long) cells * (chunk + 1) / chunkCount);
+            tasks.add(() -> task.run(from, to));
+        }
+        PhaseTasks.runAll(executor, tasks);
+    }
+
+    @FunctionalInterface
+    protected interface CellRangeTask {
+        void run(int from, int to);
+    }
+}
@@ -0,0 +1,56 @@
+package island;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Ядро на Vector API: хеш SplitMix64 для целого вектора клеток, маска роста и
+// ограничение ёмкости через min. Загружается только если модуль доступен.
+final class VectorPlantGrowthKernel implements PlantGrowthKernel {
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    private final LongVector lanes = LongVector.zero(LONGS).addIndex(1);
+
+    @Override
+    public double grow(double[] biomass, int count, int firstCell, long streamBase, int growthRatePercent) {
+        long threshold = PlantGrowthKernel.threshold(growthRatePercent);
+        long base = streamBase + firstCell; // Поток клетки зависит только от streamBase + cell
+        int length = LONGS.length();
+        int upper = LONGS.loopBound(count);
+        DoubleVector grown = DoubleVector.zero(DOUBLES);
+
+        int cell = 0;
+        for (; cell < upper; cell += length) {
+            LongVector z = mix(lanes.add(base + cell));
+            z = mix(z.add(CellRandom.GOLDEN_GAMMA));
+            VectorMask<Double> grows = z.lanewise(VectorOperators.LSHR, 32)
+                    .compare(VectorOperators.LT, threshold)
+                    .cast(DOUBLES);
+
+            DoubleVector before = DoubleVector.fromArray(DOUBLES, biomass, cell);
+            DoubleVector after = before.add(Plant.WEIGHT, grows).min(Plant.MAX_BIOMASS_PER_CELL);
+            after.intoArray(biomass, cell);
+            grown = grown.add(after.sub(before));
+        }
+
+        double total = grown.reduceLanes(VectorOperators.ADD);
+        // Хвост массива короче вектора
+        for (; cell < count; cell++) {
+            long grows = ((CellRandom.firstLong(base, cell) >>> 32) - threshold) >>> 63;
+            double before = biomass[cell];
+            double after = Math.min(before + Plant.WEIGHT * grows, Plant.MAX_BIOMASS_PER_CELL);
+            biomass[cell] = after;
+            total += after - before;
+        }
+        return total;
+    }
+
+    private static LongVector mix(LongVector z) {
+        z = z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 30)).mul(0xbf58476d1ce4e5b9L);
+        z = z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 27)).mul(0x94d049bb133111ebL);
+        return z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 31));
+    }
+}
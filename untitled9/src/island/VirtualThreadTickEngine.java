@@ -0,0 +1,60 @@
+package island;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Tile engine that runs every tile on its own virtual thread. Each tick phase
+// gets a fresh thread-per-task executor and goes through PhaseTasks: the first
+// failure, whichever tile it comes from, stops the tiles that have not started
+// and is rethrown once the phase has drained, so the tick is aborted instead of
+// merging partial results. Lock waits in Location use StampedLock, so a blocked
+// tile parks its virtual thread instead of pinning a carrier thread.
+public class VirtualThreadTickEngine extends TiledTickEngine {
+    // У виртуальных потоков нет пула со статистикой: потоки считает фабрика.
+    // Поток в очереди — созданный, но ещё не начавший работу
+    private final LongAdder threadsCreated = new LongAdder();
+    private final LongAdder threadsFinished = new LongAdder();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger peakWaiting = new AtomicInteger();
+    private final ThreadFactory threads = this::newThread;
+
+    public VirtualThreadTickEngine(Island island, int tileSize, SimulationMetrics metrics) {
+        super(island, null, tileSize, metrics);
+    }
+
+    SimulationMetrics.Scheduler scheduler() {
+        return new SimulationMetrics.Scheduler() {
+            @Override public long tasksSubmitted() { return threadsCreated.sum(); }
+            @Override public long tasksCompleted() { return threadsFinished.sum(); }
+            @Override public int activeThreads() { return running.get(); }
+            @Override public int queueDepth() { return waiting.get(); }
+            @Override public int peakQueueDepth() { return peakWaiting.get(); }
+        };
+    }
+
+    @Override
+    protected void runPerTile(TileTask task) {
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(threads)) {
+            PhaseTasks.runAll(executor, tileTasks(task));
+        }
+    }
+
+    private Thread newThread(Runnable task) {
+        threadsCreated.increment();
+        peakWaiting.accumulateAndGet(waiting.incrementAndGet(), Math::max);
+        return Thread.ofVirtual().unstarted(() -> {
+            waiting.decrementAndGet();
+            running.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                running.decrementAndGet();
+                threadsFinished.increment();
+            }
+        });
+    }
+}
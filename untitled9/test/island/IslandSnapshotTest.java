@@ -0,0 +1,71 @@
+package island;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Остров, сохранённый посреди прогона и загруженный заново, должен продолжить
+// его ровно так же, как если бы прогон не прерывался
+class IslandSnapshotTest {
+    private static final long SEED = 5;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void loadedIslandMatchesSavedOne() throws IOException {
+        Island island = new Island(50, 40, 0.3, SEED);
+        IslandSimulation simulation = new IslandSimulation(island, TickMode.TWO_PHASE, 2);
+        try {
+            simulation.runTicks(3);
+            Path snapshot = directory.resolve("island.bin");
+            IslandSnapshot.save(island, snapshot);
+
+            assertEquals(IslandState.of(island), IslandState.of(IslandSnapshot.load(snapshot)));
+        } finally {
+            simulation.stop();
+        }
+    }
+
+    @Test
+    void resumedRunMatchesUninterruptedRun() throws IOException {
+        Path snapshot = directory.resolve("island.bin");
+        Island island = new Island(50, 40, 0.3, SEED);
+        IslandSimulation uninterrupted = new IslandSimulation(island, TickMode.TWO_PHASE, 2);
+        try {
+            uninterrupted.runTicks(3);
+            IslandSnapshot.save(island, snapshot);
+            uninterrupted.runTicks(3);
+        } finally {
+            uninterrupted.stop();
+        }
+
+        Island restored = IslandSnapshot.load(snapshot);
+        assertEquals(3, restored.getTick());
+        // Другое число потоков: результат от него не зависит
+        IslandSimulation resumed = new IslandSimulation(restored, TickMode.TWO_PHASE, 3);
+        try {
+            resumed.runTicks(3);
+        } finally {
+            resumed.stop();
+        }
+
+        assertEquals(IslandState.of(island), IslandState.of(restored));
+        assertEquals(island.getCensus().totalAnimals(), restored.getCensus().totalAnimals());
+    }
+
+    @Test
+    void offHeapStorageLoadsTheSameIsland() throws IOException {
+        Island island = new Island(50, 40, 0.3, SEED);
+        Path snapshot = directory.resolve("island.bin");
+        IslandSnapshot.save(island, snapshot);
+
+        try (Island offHeap = IslandSnapshot.load(snapshot, CellStorage.offHeap())) {
+            assertEquals(IslandState.of(island), IslandState.of(offHeap));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package island;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Полное состояние острова для сравнения в тестах: биомасса и жители каждой клетки
+// в порядке обхода, вместе с сытостью
+record IslandState(long tick, List<Double> biomass, List<String> residents) {
+
+    static IslandState of(Island island) {
+        List<Double> biomass = new ArrayList<>(island.getCellCount());
+        List<String> residents = new ArrayList<>(island.getCellCount());
+        for (int cell = 0; cell < island.getCellCount(); cell++) {
+            biomass.add(island.getPlantBiomass(cell));
+            Location location = island.peekLocation(cell);
+            StringBuilder cellResidents = new StringBuilder();
+            if (location != null) {
+                for (Animal animal : location.getAnimals()) {
+                    cellResidents.append(animal.getSpeciesId()).append(':').append(animal.getSatiety()).append(' ');
+                }
+            }
+            residents.add(cellResidents.toString());
+        }
+        return new IslandState(island.getTick(), biomass, residents);
+    }
+}
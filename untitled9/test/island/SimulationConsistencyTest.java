@@ -0,0 +1,81 @@
+package island;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Census и клетки острова должны совпадать после любого числа ходов в любом режиме,
+// а детерминированные режимы — давать один и тот же остров при любом числе потоков
+class SimulationConsistencyTest {
+    private static final long SEED = 7;
+    private static final int TICKS = 5;
+
+    @ParameterizedTest
+    @EnumSource(TickMode.class)
+    void censusMatchesCellsWithOneThread(TickMode mode) {
+        assertCensusMatchesCells(mode, 1);
+    }
+
+    @ParameterizedTest
+    @EnumSource(TickMode.class)
+    void censusMatchesCellsWithFourThreads(TickMode mode) {
+        assertCensusMatchesCells(mode, 4);
+    }
+
+    // PER_ANIMAL зависит от порядка, в котором пул выполняет задачи животных
+    @ParameterizedTest
+    @EnumSource(value = TickMode.class, names = "PER_ANIMAL", mode = EnumSource.Mode.EXCLUDE)
+    void resultDoesNotDependOnThreadCount(TickMode mode) {
+        assertEquals(run(mode, 1), run(mode, 4));
+    }
+
+    // QUADTREE только по-другому режет остров на задачи: результат тот же, что у TWO_PHASE
+    @Test
+    void quadtreeMatchesTwoPhase() {
+        assertEquals(run(TickMode.TWO_PHASE, 4), run(TickMode.QUADTREE, 4));
+    }
+
+    private static void assertCensusMatchesCells(TickMode mode, int threads) {
+        Island island = new Island(60, 40, 0.3, SEED);
+        IslandSimulation simulation = new IslandSimulation(island, mode, threads);
+        try {
+            simulation.runTicks(TICKS);
+
+            long[] bySpecies = new long[Species.COUNT];
+            double plants = 0;
+            for (int cell = 0; cell < island.getCellCount(); cell++) {
+                plants += island.getPlantBiomass(cell);
+                Location location = island.peekLocation(cell);
+                if (location == null) continue;
+                assertEquals(location.getAnimalCount(), location.getAnimals().size(), "cell " + cell);
+                for (Animal animal : location.getAnimals()) {
+                    assertTrue(animal.isAlive(), "dead resident in cell " + cell);
+                    assertSame(location, animal.location, "resident of another cell in cell " + cell);
+                    bySpecies[animal.getSpeciesId()]++;
+                }
+            }
+
+            IslandSimulation.Statistics statistics = simulation.collectStatistics();
+            assertArrayEquals(bySpecies, statistics.animalsBySpecies(), mode + " species census");
+            assertEquals(plants, statistics.plantBiomass(), 1e-6 * Math.max(1, plants), mode + " plant census");
+        } finally {
+            simulation.stop();
+        }
+    }
+
+    private static IslandState run(TickMode mode, int threads) {
+        Island island = new Island(40, 30, 0.3, SEED);
+        IslandSimulation simulation = new IslandSimulation(island, mode, threads);
+        try {
+            simulation.runTicks(TICKS);
+            return IslandState.of(island);
+        } finally {
+            simulation.stop();
+        }
+    }
+}